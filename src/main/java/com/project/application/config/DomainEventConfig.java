@@ -0,0 +1,63 @@
+package com.project.application.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor for @Async domain event listeners.
+
+ * Small and bounded: when its queue is full the publishing thread runs the listener
+ * itself, which slows publishers down instead of dropping events. The executor is not
+ * registered as a bean, so Spring MVC's async requests (streamed exports, SSE, request
+ * futures) keep using the application task executor.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class DomainEventConfig implements AsyncConfigurer, DisposableBean {
+
+    @Value("${app.domain-events.threads:2}")
+    private int threads;
+
+    @Value("${app.domain-events.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @Override
+    public synchronized Executor getAsyncExecutor() {
+        if (executor == null) {
+            executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(threads);
+            executor.setMaxPoolSize(threads);
+            executor.setQueueCapacity(queueCapacity);
+            executor.setThreadNamePrefix("domain-event-");
+            executor.setDaemon(true);
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.initialize();
+        }
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (error, method, params) ->
+                log.error("Domain event listener {} failed: {}", method.getName(), error.getMessage());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
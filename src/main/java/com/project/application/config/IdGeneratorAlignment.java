@@ -0,0 +1,53 @@
+package com.project.application.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the id generator tables past the highest existing ids at startup.
+
+ * Entities use pooled-lo generators backed by "&lt;table&gt;_seq" tables (MySQL has no
+ * sequences), so Hibernate can assign ids without a round trip per insert and JDBC
+ * batching works. When these tables are first created by ddl-auto on a database
+ * that already has rows (inserted with AUTO_INCREMENT), they start at 1 and would
+ * hand out ids that are taken. This runs after the schema update and before the web
+ * server or any initializer can insert, and only ever moves a generator forward.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorAlignment {
+
+    // Generator table -> (entity table, id column)
+    private static final Map<String, String[]> GENERATOR_TABLES = Map.of(
+            "events_seq", new String[]{"events", "event_id"},
+            "event_responsibilities_seq", new String[]{"event_responsibilities", "id"},
+            "items_seq", new String[]{"items", "item_id"},
+            "requests_seq", new String[]{"requests", "request_id"},
+            "users_seq", new String[]{"users", "user_id"},
+            "user_responsibilities_seq", new String[]{"user_responsibilities", "id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Injected so the schema update has run before alignment
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignGenerators() {
+        GENERATOR_TABLES.forEach((generatorTable, target) -> {
+            try {
+                jdbcTemplate.update("UPDATE " + generatorTable + " SET next_val = GREATEST(next_val, " +
+                        "(SELECT COALESCE(MAX(" + target[1] + "), 0) + 1 FROM " + target[0] + "))");
+            } catch (Exception e) {
+                log.warn("Could not align id generator {}: {}", generatorTable, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.application.config;
+
+import com.project.application.entity.Request;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes sure the one-request-per-user-and-item constraint ({@link Request#UNIQUE_USER_ITEM})
+ * exists at startup; the request services rely on it instead of checking before each insert.
+
+ * On a database created before the constraint, ddl-auto tries to add it, but rows
+ * duplicated by the old check-then-insert race make that ALTER fail and Hibernate
+ * only logs it. This runs after the schema update: if the constraint is missing it
+ * deletes every duplicate except the oldest request (earliest date of issue, then
+ * lowest id) and adds the constraint. If that fails the application does not start,
+ * rather than run without duplicate protection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestUniquenessMigration {
+
+    private static final String CONSTRAINT_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'requests' AND CONSTRAINT_NAME = ?";
+
+    // Delete each request that has an older one for the same user and item
+    private static final String DELETE_DUPLICATES_SQL = "DELETE newer FROM requests newer " +
+            "JOIN requests older ON older.user_id = newer.user_id AND older.item_id = newer.item_id " +
+            "AND (older.date_of_issue < newer.date_of_issue " +
+            "OR (older.date_of_issue = newer.date_of_issue AND older.request_id < newer.request_id))";
+
+    private static final String ADD_CONSTRAINT_SQL = "ALTER TABLE requests ADD CONSTRAINT " +
+            Request.UNIQUE_USER_ITEM + " UNIQUE (user_id, item_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Injected so the schema update has run first
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void ensureUniqueConstraint() {
+        Integer existing = jdbcTemplate.queryForObject(CONSTRAINT_EXISTS_SQL, Integer.class, Request.UNIQUE_USER_ITEM);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        try {
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            jdbcTemplate.execute(ADD_CONSTRAINT_SQL);
+            log.info("Added constraint {} after deleting {} duplicate requests", Request.UNIQUE_USER_ITEM, deleted);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not add constraint " + Request.UNIQUE_USER_ITEM +
+                    " to requests: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the core services as "app.service.calls", tagged with
+ * the service, the method and the outcome. Together with Spring MVC's
+ * "http.server.requests" and the Hikari pool timers, this shows which path holds the
+ * pool connections.
+
+ * The services report failures as a message instead of throwing, so a String result
+ * that does not start with "success" counts as outcome "failure" (getters excepted).
+ * Calls from a service to its own methods are not proxied and so not timed separately.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "app.service.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.project.application.service.RequestService.*(..))" +
+            " || execution(public * com.project.application.service.ItemService.*(..))" +
+            " || execution(public * com.project.application.service.EventService.*(..))" +
+            " || execution(public * com.project.application.service.UserService.*(..))" +
+            " || execution(public * com.project.application.service.ResponsibilityService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "exception";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = outcomeOf(method, result);
+            return result;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Core service method calls")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String outcomeOf(String method, Object result) {
+        if (result instanceof String message && !method.startsWith("get") && !message.startsWith("success")) {
+            return "failure";
+        }
+        return "success";
+    }
+}
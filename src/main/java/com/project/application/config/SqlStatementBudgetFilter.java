@@ -0,0 +1,111 @@
+package com.project.application.config;
+
+import com.project.application.util.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * SQL statement budget per HTTP request.
+
+ * A Hibernate StatementInspector counts every prepared statement in the request's
+ * {@link SqlStatementCounter} scope. After the request, endpoints over the statement
+ * budget are logged, and so is every statement that ran at least the repeat threshold
+ * of times with different parameters (a likely N+1: one query per row of an earlier
+ * result). The count is recorded per endpoint as "app.http.sql.statements".
+
+ * The request's stats are left in the {@link #STATS_ATTRIBUTE} request attribute, so
+ * MockMvc tests can assert a budget per endpoint. Only the servlet thread is counted:
+ * statements of async parts (streamed exports, SSE) and of JdbcTemplate are not.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter implements HibernatePropertiesCustomizer {
+
+    public static final String STATS_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".stats";
+
+    // Longest SQL text written to the log
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.sql-budget.max-statements:30}")
+    private int maxStatements;
+
+    @Value("${app.sql-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+            SqlStatementCounter.record(sql);
+            return sql;
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Stats stats = scope.stop();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Stats stats) {
+        if (stats.statementCount() == 0) {
+            return;
+        }
+
+        // The mapped pattern keeps the endpoint tag bounded (no ids in it)
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+
+        DistributionSummary.builder("app.http.sql.statements")
+                .description("SQL statements prepared per HTTP request")
+                .tag("endpoint", pattern != null ? endpoint : request.getMethod() + " UNKNOWN")
+                .register(meterRegistry)
+                .record(stats.statementCount());
+
+        if (stats.statementCount() > maxStatements) {
+            log.warn("{} ran {} SQL statements (budget {})", endpoint, stats.statementCount(), maxStatements);
+        }
+        stats.repeatedStatements(repeatThreshold).forEach((sql, count) ->
+                log.warn("{} likely N+1, same statement ran {} times: {}", endpoint, count, abbreviate(sql)));
+    }
+
+    private String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -1,22 +1,37 @@
 package com.project.application.controller;
 
 import com.project.application.controller.helper.SecurityHelper;
-import com.project.application.entity.Item;
+import com.project.application.dto.AdminItemRow;
+import com.project.application.dto.AdminUserRow;
+import com.project.application.dto.KeysetPage;
 import com.project.application.entity.User;
-import com.project.application.entity.Event;
 import com.project.application.service.UserService;
 import com.project.application.service.ItemService;
 import com.project.application.service.EventService;
+import com.project.application.service.AdminJob;
+import com.project.application.service.AdminJobService;
+import com.project.application.service.AdminJobType;
+import com.project.application.service.AdminMetricsService;
+import com.project.application.service.ExportService;
+import com.project.application.service.UtilizationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,10 +43,21 @@ import java.util.Optional;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    // Rows per page of the user and item lists (the services cap the requested size)
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    // Returned by the metrics endpoints when loading fails
+    private static final Map<String, Object> EMPTY_METRICS = Map.of("roleCounts", Map.of(), "statusCounts", Map.of(),
+            "totalUsers", 0, "totalItems", 0, "totalEvents", 0);
+
     private final SecurityHelper securityHelper;
     private final UserService userService;
     private final ItemService itemService;
     private final EventService eventService;
+    private final AdminJobService adminJobService;
+    private final AdminMetricsService adminMetricsService;
+    private final ExportService exportService;
+    private final UtilizationService utilizationService;
 
     @GetMapping
     public String adminPage(Model model) {
@@ -43,69 +69,50 @@ public class AdminController {
     @GetMapping("/metrics/user-roles")
     @ResponseBody
     public Map<String, Object> getUserRoleMetrics() {
-        return getMetrics(() -> {
-            List<User> users = userService.getAllNonAdminUsers();
-            Map<String, Integer> counts = new HashMap<>();
-            counts.put("chief", 0);
-            counts.put("manager", 0);
-            counts.put("user", 0);
-
-            users.forEach(user -> {
-                String role = user.getRoleName().toLowerCase();
-                counts.computeIfPresent(role, (k, v) -> v + 1);
-            });
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("roleCounts", counts);
-            response.put("totalUsers", users.size());
-            return response;
-        });
+        return getMetrics(adminMetricsService::getUserRoleMetrics);
     }
 
     @GetMapping("/metrics/item-status")
     @ResponseBody
     public Map<String, Object> getItemStatusMetrics() {
-        return getMetrics(() -> {
-            Map<String, Integer> counts = itemService.getItemStatusDistribution();
-            int total = counts.values().stream().mapToInt(Integer::intValue).sum();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("statusCounts", counts);
-            response.put("totalItems", total);
-            return response;
-        });
+        return getMetrics(adminMetricsService::getItemStatusMetrics);
     }
 
     @GetMapping("/metrics/event-status")
     @ResponseBody
     public Map<String, Object> getEventStatusMetrics() {
-        return getMetrics(() -> {
-            List<Event> events = eventService.getAllEvents();
-            Map<String, Integer> counts = new HashMap<>();
-            counts.put("notActive", 0);
-            counts.put("active", 0);
-            counts.put("equipmentReturn", 0);
-
-            events.forEach(event -> {
-                switch (event.getStatus()) {
-                    case Event.STATUS_NOT_ACTIVE -> counts.put("notActive", counts.get("notActive") + 1);
-                    case Event.STATUS_ACTIVE -> counts.put("active", counts.get("active") + 1);
-                    case Event.STATUS_EQUIPMENT_RETURN -> counts.put("equipmentReturn", counts.get("equipmentReturn") + 1);
-                }
-            });
+        return getMetrics(adminMetricsService::getEventStatusMetrics);
+    }
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("statusCounts", counts);
-            response.put("totalEvents", events.size());
-            return response;
-        });
+    // All three distributions in one round trip (short-lived cache)
+    @GetMapping("/metrics/overview")
+    @ResponseBody
+    public Map<String, Object> getMetricsOverview() {
+        try {
+            return adminMetricsService.getOverview();
+        } catch (Exception e) {
+            return Map.of("userRoles", EMPTY_METRICS, "itemStatus", EMPTY_METRICS, "eventStatus", EMPTY_METRICS,
+                    "error", "Failed to load metrics");
+        }
+    }
+
+    // Item utilization over the last `days` days, read from the daily and per-event rollups
+    @GetMapping("/metrics/utilization")
+    @ResponseBody
+    public Map<String, Object> getUtilizationMetrics(@RequestParam(defaultValue = "30") int days) {
+        try {
+            return utilizationService.getUtilizationReport(days);
+        } catch (Exception e) {
+            return Map.of("days", List.of(), "responsibilities", List.of(), "leastUsedItems", List.of(),
+                    "events", List.of(), "error", "Failed to load utilization");
+        }
     }
 
     private Map<String, Object> getMetrics(MetricsSupplier supplier) {
         try {
             return supplier.get();
         } catch (Exception e) {
-            return Map.of("roleCounts", Map.of(), "statusCounts", Map.of(), "totalUsers", 0, "totalItems", 0, "totalEvents", 0);
+            return EMPTY_METRICS;
         }
     }
 
@@ -114,32 +121,48 @@ public class AdminController {
         Map<String, Object> get() throws Exception;
     }
 
+    /**
+     * One page of the user management table (keyset pagination).
+     * role is all, chief or non-chief; search matches the start of a name, email or phone.
+     * To get the next page, pass back the nextCursor values as afterLastName, afterFirstName and afterUserId.
+     */
     @GetMapping("/user-management")
     @ResponseBody
-    public Map<String, Object> getUserManagementData() {
+    public Map<String, Object> getUserManagementData(@RequestParam(defaultValue = "all") String role,
+                                                     @RequestParam(required = false) String search,
+                                                     @RequestParam(required = false) String afterLastName,
+                                                     @RequestParam(required = false) String afterFirstName,
+                                                     @RequestParam(required = false) Long afterUserId,
+                                                     @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
-            List<User> users = userService.getAllUsersForManagement();
+            KeysetPage<AdminUserRow> page = userService.getUserManagementPage(role, search,
+                    afterLastName, afterFirstName, afterUserId, limit);
 
-            List<Map<String, Object>> userList = users.stream()
+            List<Map<String, Object>> userList = page.rows().stream()
                     .map(user -> {
                         Map<String, Object> userMap = new HashMap<>();
-                        userMap.put("userId", user.getUserId());
-                        userMap.put("fullName", capitalizeNames(user.getFirstName(), user.getLastName()));
-                        userMap.put("email", user.getEmailAddress()); // Add email field
-                        userMap.put("phone", user.getPhoneNumber());
-                        userMap.put("role", capitalizeFirst(user.getRoleName()));
-                        userMap.put("isChief", "chief".equals(user.getRoleName()));
+                        userMap.put("userId", user.userId());
+                        userMap.put("fullName", capitalizeNames(user.firstName(), user.lastName()));
+                        userMap.put("email", user.emailAddress());
+                        userMap.put("phone", user.phoneNumber());
+                        userMap.put("role", capitalizeFirst(user.roleName()));
+                        userMap.put("isChief", "chief".equals(user.roleName()));
                         return userMap;
                     })
                     .collect(java.util.stream.Collectors.toList());
 
             Map<String, Object> response = new HashMap<>();
             response.put("users", userList);
-            response.put("totalUsers", users.size());
+            response.put("hasMore", page.hasMore());
+            if (page.hasMore()) {
+                AdminUserRow last = page.lastRow();
+                response.put("nextCursor", Map.of("afterLastName", last.lastName(),
+                        "afterFirstName", last.firstName(), "afterUserId", last.userId()));
+            }
             return response;
 
         } catch (Exception e) {
-            return Map.of("users", List.of(), "totalUsers", 0, "error", "Failed to load users");
+            return Map.of("users", List.of(), "hasMore", false, "error", "Failed to load users");
         }
     }
 
@@ -151,6 +174,7 @@ public class AdminController {
 
             Map<String, Object> response = new HashMap<>();
             if ("success".equals(result)) {
+                adminMetricsService.invalidateOverview();
                 response.put("success", true);
                 response.put("message", "User promoted to Chief successfully");
             } else {
@@ -175,6 +199,7 @@ public class AdminController {
 
             Map<String, Object> response = new HashMap<>();
             if ("success".equals(result)) {
+                adminMetricsService.invalidateOverview();
                 response.put("success", true);
                 response.put("message", "Chief demoted successfully");
                 response.put("wasLastChief", isLastChief);
@@ -239,6 +264,7 @@ public class AdminController {
 
             Map<String, Object> response = new HashMap<>();
             if ("success".equals(result)) {
+                adminMetricsService.invalidateOverview();
                 response.put("success", true);
                 response.put("message", "User '" + userName + "' deleted successfully");
             } else {
@@ -256,106 +282,48 @@ public class AdminController {
     @ResponseBody
     public Map<String, Object> getManagersInfo() {
         try {
-            List<User> managers = userService.getAllNonAdminUsers().stream()
-                    .filter(u -> "manager".equals(u.getRoleName()))
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("managerCount", managers.size());
-            response.put("managers", managers.stream().map(u ->
-                    capitalizeNames(u.getFirstName(), u.getLastName())).collect(java.util.stream.Collectors.toList()));
-
-            return response;
+            return Map.of("managerCount", userService.countManagers());
         } catch (Exception e) {
-            return Map.of("managerCount", 0, "managers", List.of(), "error", "Failed to load manager info");
+            return Map.of("managerCount", 0, "error", "Failed to load manager info");
         }
     }
 
     @PostMapping("/demote-all-managers")
     @ResponseBody
     public Map<String, Object> demoteAllManagers() {
-        try {
-            String result = userService.demoteAllManagers();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " managers demoted successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to demote managers: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.DEMOTE_ALL_MANAGERS);
     }
 
     @GetMapping("/chiefs-info")
     @ResponseBody
     public Map<String, Object> getChiefsInfo() {
         try {
-            List<User> chiefs = userService.getAllNonAdminUsers().stream()
-                    .filter(u -> "chief".equals(u.getRoleName()))
-                    .collect(java.util.stream.Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("chiefCount", chiefs.size());
-            response.put("chiefs", chiefs.stream().map(u ->
-                    capitalizeNames(u.getFirstName(), u.getLastName())).collect(java.util.stream.Collectors.toList()));
-
-            return response;
+            return Map.of("chiefCount", userService.countChiefs());
         } catch (Exception e) {
-            return Map.of("chiefCount", 0, "chiefs", List.of(), "error", "Failed to load chief info");
+            return Map.of("chiefCount", 0, "error", "Failed to load chief info");
         }
     }
 
     @PostMapping("/demote-all-chiefs")
     @ResponseBody
     public Map<String, Object> demoteAllChiefs() {
-        try {
-            String result = userService.demoteAllChiefs();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " chiefs demoted successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to demote chiefs: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.DEMOTE_ALL_CHIEFS);
     }
 
     @GetMapping("/all-users-info")
     @ResponseBody
     public Map<String, Object> getAllUsersInfo() {
         try {
-            List<User> allUsers = userService.getAllNonAdminUsers();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("userCount", allUsers.size());
-            response.put("users", allUsers.stream().map(u ->
-                    capitalizeNames(u.getFirstName(), u.getLastName())).collect(java.util.stream.Collectors.toList()));
-
-            return response;
+            return Map.of("userCount", userService.countNonAdminUsers());
         } catch (Exception e) {
-            return Map.of("userCount", 0, "users", List.of(), "error", "Failed to load user info");
+            return Map.of("userCount", 0, "error", "Failed to load user info");
         }
     }
 
     @PostMapping("/delete-all-users")
     @ResponseBody
     public Map<String, Object> deleteAllUsers() {
-        try {
-            String result = userService.deleteAllNonAdminUsers();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " users deleted successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to delete users: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.DELETE_ALL_USERS);
     }
 
     // ========== ITEM BULK OPERATIONS ==========
@@ -364,16 +332,9 @@ public class AdminController {
     @ResponseBody
     public Map<String, Object> getItemsInfo() {
         try {
-            List<Item> allItems = itemService.getAllItems();
-
-            // Count items by status
-            long inUseCount = allItems.stream()
-                    .filter(item -> "In Use".equals(item.getStatus()) && item.getUser() != null)
-                    .count();
-
             Map<String, Object> response = new HashMap<>();
-            response.put("totalItemCount", allItems.size());
-            response.put("inUseCount", inUseCount);
+            response.put("totalItemCount", itemService.countAllItems());
+            response.put("inUseCount", itemService.countInUseItems());
 
             return response;
         } catch (Exception e) {
@@ -381,55 +342,66 @@ public class AdminController {
         }
     }
 
-    @PostMapping("/return-all-inuse-items")
+    /**
+     * One page of the item list (keyset pagination).
+     * status is Available, In Use or Unavailable (all when omitted); search matches the start of the item name.
+     * To get the next page, pass back the nextCursor values as afterItemName and afterItemId.
+     */
+    @GetMapping("/items")
     @ResponseBody
-    public Map<String, Object> returnAllInUseItems() {
+    public Map<String, Object> getItems(@RequestParam(required = false) String status,
+                                        @RequestParam(required = false) String search,
+                                        @RequestParam(required = false) String afterItemName,
+                                        @RequestParam(required = false) Long afterItemId,
+                                        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
-            String result = itemService.returnAllInUseItems();
+            String statusFilter = status == null || status.isBlank() || "all".equalsIgnoreCase(status) ? null : status;
+            KeysetPage<AdminItemRow> page = itemService.getAdminItemPage(statusFilter, search,
+                    afterItemName, afterItemId, limit);
+
+            List<Map<String, Object>> itemList = page.rows().stream()
+                    .map(item -> {
+                        Map<String, Object> itemMap = new HashMap<>();
+                        itemMap.put("itemId", item.itemId());
+                        itemMap.put("itemName", item.itemName());
+                        itemMap.put("status", item.status());
+                        itemMap.put("responsibilityName", item.responsibilityName());
+                        itemMap.put("ownerName", item.ownerFirstName() == null ? null
+                                : capitalizeNames(item.ownerFirstName(), item.ownerLastName()));
+                        return itemMap;
+                    })
+                    .collect(java.util.stream.Collectors.toList());
 
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " in-use items returned successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
+            Map<String, Object> response = new HashMap<>();
+            response.put("items", itemList);
+            response.put("hasMore", page.hasMore());
+            if (page.hasMore()) {
+                AdminItemRow last = page.lastRow();
+                response.put("nextCursor", Map.of("afterItemName", last.itemName(), "afterItemId", last.itemId()));
             }
+            return response;
+
         } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to return items: " + e.getMessage());
+            return Map.of("items", List.of(), "hasMore", false, "error", "Failed to load items");
         }
     }
 
+    @PostMapping("/return-all-inuse-items")
+    @ResponseBody
+    public Map<String, Object> returnAllInUseItems() {
+        return submitJob(AdminJobType.RETURN_ALL_IN_USE_ITEMS);
+    }
+
     @PostMapping("/make-all-items-unavailable")
     @ResponseBody
     public Map<String, Object> makeAllItemsUnavailable() {
-        try {
-            String result = itemService.makeAllItemsUnavailable();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " items marked as unavailable", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to update items: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.MAKE_ALL_ITEMS_UNAVAILABLE);
     }
 
     @PostMapping("/delete-all-items")
     @ResponseBody
     public Map<String, Object> deleteAllItems() {
-        try {
-            String result = itemService.deleteAllItems();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " items deleted successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to delete items: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.DELETE_ALL_ITEMS);
     }
 
     // ========== EVENT BULK OPERATIONS ==========
@@ -438,16 +410,9 @@ public class AdminController {
     @ResponseBody
     public Map<String, Object> getEventsInfo() {
         try {
-            List<Event> allEvents = eventService.getAllEvents();
-
-            // Count events by status
-            long activeCount = allEvents.stream()
-                    .filter(event -> Event.STATUS_ACTIVE.equals(event.getStatus()))
-                    .count();
-
             Map<String, Object> response = new HashMap<>();
-            response.put("totalEventCount", allEvents.size());
-            response.put("activeCount", activeCount);
+            response.put("totalEventCount", eventService.countAllEvents());
+            response.put("activeCount", eventService.countActiveEvents());
 
             return response;
         } catch (Exception e) {
@@ -458,51 +423,104 @@ public class AdminController {
     @PostMapping("/deactivate-all-events")
     @ResponseBody
     public Map<String, Object> deactivateAllEvents() {
-        try {
-            String result = eventService.deactivateAllEvents();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " events deactivated successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to deactivate events: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.DEACTIVATE_ALL_EVENTS);
     }
 
     @PostMapping("/set-active-events-to-return")
     @ResponseBody
     public Map<String, Object> setActiveEventsToReturn() {
-        try {
-            String result = eventService.setActiveEventsToReturn();
-
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " active events set to return mode", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
-        } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to set events to return mode: " + e.getMessage());
-        }
+        return submitJob(AdminJobType.SET_ACTIVE_EVENTS_TO_RETURN);
     }
 
     @PostMapping("/delete-all-events")
     @ResponseBody
     public Map<String, Object> deleteAllEvents() {
-        try {
-            String result = eventService.deleteAllEvents();
+        return submitJob(AdminJobType.DELETE_ALL_EVENTS);
+    }
 
-            if (result.startsWith("success:")) {
-                int count = Integer.parseInt(result.substring(8));
-                return Map.of("success", true, "message", count + " events deleted successfully", "count", count);
-            } else {
-                return Map.of("success", false, "message", result);
-            }
+    // ========== EXPORTS ==========
+
+    /**
+     * Stream an export as CSV (default) or NDJSON: dataset is items, requests or users
+     */
+    @GetMapping("/export/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format exportFormat;
+        if ("csv".equalsIgnoreCase(format)) {
+            exportFormat = ExportService.Format.CSV;
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            exportFormat = ExportService.Format.NDJSON;
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = switch (dataset) {
+            case "items" -> out -> exportService.exportItems(exportFormat, out);
+            case "requests" -> out -> exportService.exportPendingRequests(exportFormat, out);
+            case "users" -> out -> exportService.exportUsers(exportFormat, out);
+            default -> null;
+        };
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String extension = exportFormat == ExportService.Format.CSV ? "csv" : "ndjson";
+        MediaType mediaType = exportFormat == ExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(dataset + "-" + LocalDate.now() + "." + extension).build().toString())
+                .body(body);
+    }
+
+    // ========== BACKGROUND JOBS ==========
+
+    @GetMapping("/jobs/{jobId}")
+    @ResponseBody
+    public Map<String, Object> getJobStatus(@PathVariable String jobId) {
+        return adminJobService.findJob(jobId)
+                .map(this::toJobResponse)
+                .orElseGet(() -> Map.of("success", false, "message", "Job not found"));
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    @ResponseBody
+    public Map<String, Object> cancelJob(@PathVariable String jobId) {
+        if (adminJobService.cancel(jobId)) {
+            return Map.of("success", true, "message", "Cancellation requested");
+        }
+        return Map.of("success", false, "message", "Job not found or already finished");
+    }
+
+    /**
+     * Submit a bulk action as a background job and return its initial status
+     */
+    private Map<String, Object> submitJob(AdminJobType type) {
+        try {
+            return toJobResponse(adminJobService.submit(type));
         } catch (Exception e) {
-            return Map.of("success", false, "message", "Failed to delete events: " + e.getMessage());
+            return Map.of("success", false, "message", "Failed to start job: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toJobResponse(AdminJob job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", job.getStatus() != AdminJob.Status.FAILED);
+        response.put("jobId", job.getJobId());
+        response.put("type", job.getType().name());
+        response.put("status", job.getStatus().name());
+        response.put("finished", job.isFinished());
+        response.put("totalRows", job.getTotalRows());
+        response.put("processedRows", job.getProcessedRows());
+        response.put("percent", job.getPercentComplete());
+        response.put("message", job.getMessage());
+        if (job.getCount() != null) {
+            response.put("count", job.getCount());
         }
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,9 @@
 package com.project.application.controller;
 
+import com.project.application.controller.helper.SecurityHelper;
 import com.project.application.entity.User;
 import com.project.application.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +19,7 @@ import java.util.regex.Pattern;
 public class AuthController {
 
     private final UserService userService;
+    private final SecurityHelper securityHelper;
 
     // Password validation patterns
     private static final Pattern LETTER_PATTERN = Pattern.compile(".*[a-zA-Z].*");
@@ -145,11 +145,7 @@ public class AuthController {
      * Helper method to get current authenticated user
      */
     private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
-            return userService.findByEmailAddress(auth.getName()).orElse(null);
-        }
-        return null;
+        return securityHelper.getCurrentUser();
     }
 
     // ==========================================
@@ -1,14 +1,17 @@
 package com.project.application.controller;
 
 import com.project.application.controller.helper.SecurityHelper;
-import com.project.application.entity.Event;
+import com.project.application.dto.DashboardSnapshot;
+import com.project.application.dto.EventPage;
 import com.project.application.entity.Responsibility;
 import com.project.application.entity.User;
+import com.project.application.service.DashboardService;
 import com.project.application.service.EventService;
-import com.project.application.service.ResponsibilityService;
+import com.project.application.service.PageViewService;
 import com.project.application.service.UserService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,8 +30,9 @@ import java.util.*;
 public class EventController {
 
     private final EventService eventService;
-    private final ResponsibilityService responsibilityService;
     private final UserService userService;
+    private final DashboardService dashboardService;
+    private final PageViewService pageViewService;
     private final SecurityHelper securityHelper;
 
     // ==========================================
@@ -55,17 +59,14 @@ public class EventController {
         } else {
             // Error occurred - reload dashboard with form data and error message
 
-            // Get all responsibilities with their managers for the dashboard
-            Map<Responsibility, List<User>> responsibilitiesWithManagers = responsibilityService.getAllResponsibilitiesWithManagers();
-
-            // Get all events for chief
-            List<Event> events = eventService.getAllEvents();
+            // Dashboard data (all events for chief) from the shared snapshot
+            DashboardSnapshot snapshot = dashboardService.getSnapshot();
 
             // Add all necessary data to model
             model.addAttribute("user", user);
             model.addAttribute("userRole", user.getRoleName());
-            model.addAttribute("responsibilitiesWithManagers", responsibilitiesWithManagers);
-            model.addAttribute("events", events);
+            model.addAttribute("responsibilitiesWithManagers", snapshot.responsibilitiesWithManagers());
+            model.addAttribute("events", snapshot.allEvents());
 
             // Add form data to preserve user input
             model.addAttribute("eventFormData", new EventFormData(eventName, description));
@@ -231,6 +232,18 @@ public class EventController {
         return response;
     }
 
+    /**
+     * Another chief changed the same event concurrently (optimistic lock on Event.version)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseBody
+    public Map<String, Object> handleConcurrentEventChange() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "This event was changed by someone else. Please reload the page and try again.");
+        return response;
+    }
+
     // ==========================================
     // EVENT VIEWING
     // ==========================================
@@ -245,16 +258,16 @@ public class EventController {
 
         User user = securityHelper.getCurrentUser();
 
-        // Get event details
-        Optional<Event> eventOptional = eventService.findById(eventId);
+        // Get event details with its responsibilities and their managers
+        Optional<EventPage> pageOptional = pageViewService.getEventPage(eventId);
 
-        if (!eventOptional.isPresent()) {
+        if (!pageOptional.isPresent()) {
             model.addAttribute("error", "Event not found.");
             model.addAttribute("user", user);
             return "error/404";
         }
 
-        Event event = eventOptional.get();
+        EventPage page = pageOptional.get();
 
         // Check access permissions based on user role and event status
         String userRole = user.getRoleName();
@@ -263,7 +276,7 @@ public class EventController {
         if ("chief".equals(userRole) || "admin".equals(userRole)) {
             // Chiefs and admins can view any event
             canViewEvent = true;
-        } else if (event.isOngoing()) {
+        } else if (page.event().isOngoing()) {
             // Other users can only view ongoing events (active or equipment return)
             canViewEvent = true;
         }
@@ -274,20 +287,11 @@ public class EventController {
             return "error/404";
         }
 
-        // Get event responsibilities with their managers
-        List<Responsibility> eventResponsibilities = eventService.getEventResponsibilities(eventId);
-        Map<Responsibility, List<User>> responsibilitiesWithManagers = new HashMap<>();
-
-        for (Responsibility responsibility : eventResponsibilities) {
-            List<User> managers = userService.getResponsibilityManagers(responsibility.getResponsibilityId());
-            responsibilitiesWithManagers.put(responsibility, managers);
-        }
-
         // Add data to model
         model.addAttribute("user", user);
-        model.addAttribute("event", event);
+        model.addAttribute("event", page.event());
         model.addAttribute("userRole", userRole);
-        model.addAttribute("eventResponsibilities", responsibilitiesWithManagers);
+        model.addAttribute("eventResponsibilities", page.responsibilitiesWithManagers());
 
         return "event-view";
     }
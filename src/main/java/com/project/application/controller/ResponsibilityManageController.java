@@ -1,19 +1,27 @@
 package com.project.application.controller;
 
 import com.project.application.controller.helper.SecurityHelper;
+import com.project.application.dto.ItemImportResult;
+import com.project.application.dto.RequestDecisionOutcome;
+import com.project.application.dto.ResponsibilityManagePage;
 import com.project.application.entity.Item;
 import com.project.application.entity.User;
-import com.project.application.entity.Request;
 import com.project.application.service.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,62 +33,74 @@ import java.util.Optional;
 @PreAuthorize("hasRole('MANAGER')") // STEP 4: Secure entire controller for manager role
 public class ResponsibilityManageController {
 
+    // Upper bound for one batch approve/deny call
+    private static final int MAX_DECISION_BATCH_SIZE = 500;
+
     private final ItemService itemService;
     private final UserService userService;
     private final ResponsibilityService responsibilityService;
     private final RequestService requestService;
     private final SecurityHelper securityHelper;
+    private final ItemImportService itemImportService;
+    private final PageViewService pageViewService;
+    private final ManagerRequestFeed managerRequestFeed;
 
     /**
      * Display responsibility management page for managers
-     * STEP 4: Updated to use Spring Security authentication
+     * The page is loaded into a view model in one read-only transaction before rendering
      */
     @GetMapping("/responsibility-manage/{responsibilityId}")
     public String responsibilityManagement(@PathVariable Long responsibilityId, Model model) {
         User user = securityHelper.getCurrentUser();
 
-        // Get responsibility details
-        Optional<com.project.application.entity.Responsibility> responsibilityOptional =
-                responsibilityService.findById(responsibilityId);
+        // Get responsibility page data
+        Optional<ResponsibilityManagePage> pageOptional = pageViewService.getResponsibilityManagePage(responsibilityId);
 
-        if (!responsibilityOptional.isPresent()) {
+        if (!pageOptional.isPresent()) {
             model.addAttribute("error", "Responsibility not found in system.");
             model.addAttribute("user", user);
             return "error/404";
         }
 
-        com.project.application.entity.Responsibility responsibility = responsibilityOptional.get();
-
         // Check if the current manager is assigned to this responsibility
-        String userResponsibilityName = userService.getUserResponsibilityName(user.getUserId());
-        if (!responsibility.getResponsibilityName().equals(userResponsibilityName)) {
+        if (!responsibilityId.equals(securityHelper.getCurrentResponsibilityId())) {
             model.addAttribute("error", "You don't have permission to manage this responsibility.");
             model.addAttribute("user", user);
             return "error/404";
         }
 
-        // Get all items for this responsibility
-        List<Item> items = itemService.getItemsByResponsibilityId(responsibilityId);
-
-        // Get managers for this responsibility
-        List<User> responsibilityManagers = userService.getResponsibilityManagers(responsibilityId);
-
-        // Get all pending requests for this responsibility
-        List<Request> pendingRequests = requestService.getRequestsByResponsibilityId(responsibilityId);
+        ResponsibilityManagePage page = pageOptional.get();
 
         // Add data to model
         model.addAttribute("user", user);
-        model.addAttribute("responsibility", responsibility);
-        model.addAttribute("items", items);
-        model.addAttribute("itemCount", items.size());
-        model.addAttribute("responsibilityManagers", responsibilityManagers);
-        model.addAttribute("requests", pendingRequests);
-        model.addAttribute("requestCount", pendingRequests.size());
+        model.addAttribute("responsibility", page.responsibility());
+        model.addAttribute("items", page.items());
+        model.addAttribute("itemCount", page.items().size());
+        model.addAttribute("responsibilityManagers", page.managers());
+        model.addAttribute("requests", page.requests());
+        model.addAttribute("requestCount", page.requests().size());
+        model.addAttribute("itemRequestStatuses", page.itemRequestStatuses());
         model.addAttribute("activeNavButton", "responsibility");
 
         return "responsibility-manage";
     }
 
+    /**
+     * Live request queue of a responsibility (Server-Sent Events).
+     * Served asynchronously, so an open stream does not hold a request thread.
+     */
+    @GetMapping(value = "/responsibility-manage/{responsibilityId}/request-stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> requestStream(@PathVariable Long responsibilityId) {
+        // Check if the current manager is assigned to this responsibility
+        if (!responsibilityId.equals(securityHelper.getCurrentResponsibilityId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(managerRequestFeed.subscribe(responsibilityId));
+    }
+
     /**
      * Approve a request
      * STEP 4: Updated to use Spring Security authentication
@@ -120,8 +140,8 @@ public class ResponsibilityManageController {
         }
 
         // Verify that this request belongs to the manager's responsibility
-        Optional<Request> requestOptional = requestService.findById(requestId);
-        if (!requestOptional.isPresent()) {
+        Optional<Long> requestResponsibilityId = requestService.findResponsibilityIdOfRequest(requestId);
+        if (!requestResponsibilityId.isPresent()) {
             redirectAttributes.addFlashAttribute("error", "Request not found.");
             String activeTab = request.getParameter("activeTab");
             if ("requests".equals(activeTab)) {
@@ -131,8 +151,7 @@ public class ResponsibilityManageController {
             }
         }
 
-        Request requestEntity = requestOptional.get();
-        if (!requestEntity.getResponsibilityId().equals(responsibilityId)) {
+        if (!requestResponsibilityId.get().equals(responsibilityId)) {
             redirectAttributes.addFlashAttribute("error", "You don't have permission to manage this request.");
             String activeTab = request.getParameter("activeTab");
             if ("requests".equals(activeTab)) {
@@ -199,8 +218,8 @@ public class ResponsibilityManageController {
         }
 
         // Verify that this request belongs to the manager's responsibility
-        Optional<Request> requestOptional = requestService.findById(requestId);
-        if (!requestOptional.isPresent()) {
+        Optional<Long> requestResponsibilityId = requestService.findResponsibilityIdOfRequest(requestId);
+        if (!requestResponsibilityId.isPresent()) {
             redirectAttributes.addFlashAttribute("error", "Request not found.");
             String activeTab = request.getParameter("activeTab");
             if ("requests".equals(activeTab)) {
@@ -210,8 +229,7 @@ public class ResponsibilityManageController {
             }
         }
 
-        Request requestEntity = requestOptional.get();
-        if (!requestEntity.getResponsibilityId().equals(responsibilityId)) {
+        if (!requestResponsibilityId.get().equals(responsibilityId)) {
             redirectAttributes.addFlashAttribute("error", "You don't have permission to manage this request.");
             String activeTab = request.getParameter("activeTab");
             if ("requests".equals(activeTab)) {
@@ -239,6 +257,51 @@ public class ResponsibilityManageController {
         }
     }
 
+    /**
+     * Approve or deny several requests at once (action is "approve" or "deny").
+     * Permission is checked once; all requests are decided in one transaction and
+     * each request gets its own outcome. Competing requests for the same item are
+     * approved oldest first.
+     */
+    @PostMapping("/responsibility-manage/{responsibilityId}/decide-requests")
+    @ResponseBody
+    public Map<String, Object> decideRequests(@PathVariable Long responsibilityId,
+                                              @RequestParam List<Long> requestIds,
+                                              @RequestParam String action) {
+        // Managers may only decide requests of their own responsibility
+        if (!responsibilityId.equals(securityHelper.getCurrentResponsibilityId())) {
+            return Map.of("success", false, "message", "You don't have permission to manage this responsibility.");
+        }
+
+        if (!"approve".equals(action) && !"deny".equals(action)) {
+            return Map.of("success", false, "message", "Invalid action. Must be 'approve' or 'deny'");
+        }
+
+        if (requestIds.size() > MAX_DECISION_BATCH_SIZE) {
+            return Map.of("success", false, "message",
+                    "Too many requests selected (at most " + MAX_DECISION_BATCH_SIZE + " at a time)");
+        }
+
+        try {
+            List<RequestDecisionOutcome> outcomes =
+                    requestService.decideRequests(responsibilityId, requestIds, "approve".equals(action));
+            long succeededCount = outcomes.stream().filter(RequestDecisionOutcome::success).count();
+            long failedCount = outcomes.size() - succeededCount;
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("succeededCount", succeededCount);
+            response.put("failedCount", failedCount);
+            response.put("outcomes", outcomes);
+            response.put("message", succeededCount + " requests " + ("approve".equals(action) ? "approved" : "denied") +
+                    (failedCount > 0 ? ", " + failedCount + " could not be processed" : ""));
+            return response;
+
+        } catch (Exception e) {
+            return Map.of("success", false, "message", "Failed to process requests: " + e.getMessage());
+        }
+    }
+
     /**
      * Update responsibility description
      * STEP 4: Updated to use Spring Security authentication
@@ -295,6 +358,33 @@ public class ResponsibilityManageController {
         return "redirect:/responsibility-manage/" + responsibilityId;
     }
 
+    /**
+     * Turn automatic waitlist allocation of returned items on or off
+     */
+    @PostMapping("/responsibility-manage/{responsibilityId}/waitlist-auto-assign")
+    public String updateWaitlistAutoAssign(@PathVariable Long responsibilityId,
+                                           @RequestParam(defaultValue = "false") boolean enabled,
+                                           RedirectAttributes redirectAttributes) {
+
+        // Check if the current manager is assigned to this responsibility
+        if (!responsibilityId.equals(securityHelper.getCurrentResponsibilityId())) {
+            redirectAttributes.addFlashAttribute("error", "You don't have permission to manage this responsibility.");
+            return "redirect:/responsibility-manage/" + responsibilityId;
+        }
+
+        String result = responsibilityService.updateWaitlistAutoAssign(responsibilityId, enabled);
+
+        if ("success".equals(result)) {
+            redirectAttributes.addFlashAttribute("success", enabled ?
+                    "Returned items will now be assigned to the next user on the waitlist." :
+                    "Returned items will now wait for manager approval.");
+        } else {
+            redirectAttributes.addFlashAttribute("error", result);
+        }
+
+        return "redirect:/responsibility-manage/" + responsibilityId;
+    }
+
     /**
      * Add new item
      * STEP 4: Updated to use Spring Security authentication
@@ -335,6 +425,39 @@ public class ResponsibilityManageController {
         return "redirect:/responsibility-manage/" + responsibilityId;
     }
 
+    /**
+     * Bulk import items from a CSV/TSV file.
+     * The file is the raw request body and is read as a stream, row by row.
+     */
+    @PostMapping(value = "/responsibility-manage/{responsibilityId}/import-items",
+            consumes = {"text/csv", "text/tab-separated-values", "text/plain"})
+    @ResponseBody
+    public Map<String, Object> importItems(@PathVariable Long responsibilityId, HttpServletRequest request) {
+        // Managers may only import into their own responsibility
+        if (!responsibilityId.equals(securityHelper.getCurrentResponsibilityId())) {
+            return Map.of("success", false, "message", "You don't have permission to manage this responsibility.");
+        }
+
+        try {
+            ItemImportResult result = itemImportService.importItems(responsibilityId, request.getInputStream());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("importedCount", result.importedCount());
+            response.put("rejectedCount", result.rejectedCount());
+            response.put("errors", result.errors());
+            response.put("errorsTruncated", result.errorsTruncated());
+            response.put("message", result.importedCount() + " items imported" +
+                    (result.rejectedCount() > 0 ? ", " + result.rejectedCount() + " rows rejected" : ""));
+            return response;
+
+        } catch (IllegalArgumentException e) {
+            return Map.of("success", false, "message", e.getMessage());
+        } catch (Exception e) {
+            return Map.of("success", false, "message", "Failed to import items: " + e.getMessage());
+        }
+    }
+
     /**
      * Update existing item
      * STEP 4: Updated to use Spring Security authentication
@@ -1,7 +1,7 @@
 package com.project.application.controller;
 
 import com.project.application.controller.helper.SecurityHelper;
-import com.project.application.entity.Item;
+import com.project.application.dto.UserItemsPage;
 import com.project.application.entity.User;
 import com.project.application.service.*;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * STEP 4: Updated to use Spring Security instead of manual session management
@@ -20,9 +20,8 @@ import java.util.List;
 @PreAuthorize("isAuthenticated()") // STEP 4: Require authentication for all methods
 public class UserItemController {
 
-    private final ItemService itemService;
     private final RequestService requestService;
-    private final EventService eventService;
+    private final PageViewService pageViewService;
     private final SecurityHelper securityHelper;
 
     /**
@@ -32,18 +31,19 @@ public class UserItemController {
     @PostMapping("/user/request-item")
     @ResponseBody
     @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'CHIEF')") // Only these roles can request items
-    public String requestItem(@RequestParam Long itemId) {
-
-        User user = securityHelper.getCurrentUser();
-
-        // Create the request
-        String result = requestService.createRequest(user.getUserId(), itemId, "request");
-
-        if ("success".equals(result)) {
-            return "success:Item request submitted successfully";
-        } else {
-            return "error:" + result;
-        }
+    public CompletableFuture<String> requestItem(@RequestParam Long itemId) {
+
+        // The principal snapshot carries the id, so no user row is loaded
+        Long userId = securityHelper.getCurrentUserId();
+
+        // Create the request; answered once the batch writer has committed it
+        return requestService.createRequest(userId, itemId, "request").thenApply(result -> {
+            if ("success".equals(result)) {
+                return "success:Item request submitted successfully";
+            } else {
+                return "error:" + result;
+            }
+        });
     }
 
     /**
@@ -53,18 +53,19 @@ public class UserItemController {
     @PostMapping("/user/return-item")
     @ResponseBody
     @PreAuthorize("hasAnyRole('USER', 'MANAGER', 'CHIEF')") // Only these roles can return items
-    public String returnItem(@RequestParam Long itemId) {
-
-        User user = securityHelper.getCurrentUser();
-
-        // Create the return request
-        String result = requestService.createRequest(user.getUserId(), itemId, "return");
-
-        if ("success".equals(result)) {
-            return "success:Item return request submitted successfully";
-        } else {
-            return "error:" + result;
-        }
+    public CompletableFuture<String> returnItem(@RequestParam Long itemId) {
+
+        // The principal snapshot carries the id, so no user row is loaded
+        Long userId = securityHelper.getCurrentUserId();
+
+        // Create the return request; answered once the batch writer has committed it
+        return requestService.createRequest(userId, itemId, "return").thenApply(result -> {
+            if ("success".equals(result)) {
+                return "success:Item return request submitted successfully";
+            } else {
+                return "error:" + result;
+            }
+        });
     }
 
     /**
@@ -76,26 +77,16 @@ public class UserItemController {
     public String myItems(Model model) {
         User user = securityHelper.getCurrentUser();
 
-        // Get all items owned by this user
-        List<Item> userItems = itemService.getItemsByUserId(user.getUserId());
-
-        // Check if any events allow returns
-        boolean canReturnItems = eventService.areItemReturnsAllowed();
-
-        // Check which items the current user has pending return requests for
-        List<Long> userPendingReturnItemIds = requestService.getRequestsByUserId(user.getUserId())
-                .stream()
-                .filter(request -> "return".equals(request.getRequestType()))
-                .map(request -> request.getItem().getItemId())
-                .toList();
+        // Get owned items, pending returns and return eligibility in one read-only transaction
+        UserItemsPage page = pageViewService.getUserItemsPage(user.getUserId());
 
         // Add data to model
         model.addAttribute("user", user);
-        model.addAttribute("userItems", userItems);
-        model.addAttribute("itemCount", userItems.size());
-        model.addAttribute("canReturnItems", canReturnItems);
+        model.addAttribute("userItems", page.items());
+        model.addAttribute("itemCount", page.items().size());
+        model.addAttribute("canReturnItems", page.canReturnItems());
         model.addAttribute("activeNavButton", "myitems");
-        model.addAttribute("userPendingReturnItemIds", userPendingReturnItemIds);
+        model.addAttribute("userPendingReturnItemIds", page.pendingReturnItemIds());
 
         return "user-items";
     }
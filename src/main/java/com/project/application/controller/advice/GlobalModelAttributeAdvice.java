@@ -2,10 +2,8 @@ package com.project.application.controller.advice;
 
 import com.project.application.controller.helper.SecurityHelper;
 import com.project.application.entity.User;
-import com.project.application.service.UserService;
+import com.project.application.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -19,13 +17,15 @@ import org.springframework.web.bind.annotation.ModelAttribute;
  * - userResponsibilityId: Manager's responsibility ID (for navbar button)
  * - userResponsibilityName: Manager's responsibility name
  * - isAuthenticated: Authentication status
+ *
+ * Role and responsibility come from the principal snapshot; only the User entity
+ * itself is loaded (once per request, shared with the controllers via SecurityHelper).
  */
 @ControllerAdvice
 @RequiredArgsConstructor
 public class GlobalModelAttributeAdvice {
 
     private final SecurityHelper securityHelper;
-    private final UserService userService;
 
     /**
      * Add current user to ALL page models
@@ -42,8 +42,8 @@ public class GlobalModelAttributeAdvice {
      */
     @ModelAttribute("userRole")
     public String addUserRoleToModel() {
-        User user = securityHelper.getCurrentUser();
-        return user != null ? user.getRoleName() : null;
+        UserPrincipal principal = securityHelper.getCurrentPrincipal();
+        return principal != null ? principal.getRoleName() : null;
     }
 
     /**
@@ -52,9 +52,9 @@ public class GlobalModelAttributeAdvice {
      */
     @ModelAttribute("userResponsibilityId")
     public Long addUserResponsibilityIdToModel() {
-        User user = securityHelper.getCurrentUser();
-        if (user != null && "manager".equals(user.getRoleName())) {
-            return userService.getUserResponsibilityId(user.getUserId());
+        UserPrincipal principal = securityHelper.getCurrentPrincipal();
+        if (principal != null && principal.hasRole("manager")) {
+            return principal.getResponsibilityId();
         }
         return null;
     }
@@ -65,9 +65,9 @@ public class GlobalModelAttributeAdvice {
      */
     @ModelAttribute("userResponsibilityName")
     public String addUserResponsibilityNameToModel() {
-        User user = securityHelper.getCurrentUser();
-        if (user != null && "manager".equals(user.getRoleName())) {
-            return userService.getUserResponsibilityName(user.getUserId());
+        UserPrincipal principal = securityHelper.getCurrentPrincipal();
+        if (principal != null && principal.hasRole("manager")) {
+            return principal.getResponsibilityName();
         }
         return null;
     }
@@ -78,7 +78,6 @@ public class GlobalModelAttributeAdvice {
      */
     @ModelAttribute("isAuthenticated")
     public boolean addAuthenticationStatusToModel() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName());
+        return securityHelper.isUserAuthenticated();
     }
 }
\ No newline at end of file
@@ -1,46 +1,110 @@
 package com.project.application.controller.helper;
 
 import com.project.application.entity.User;
+import com.project.application.security.PrincipalSnapshotRegistry;
+import com.project.application.security.UserPrincipal;
 import com.project.application.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * STEP 4: New helper class for Spring Security authentication
  * Replaces the old session-based AuthenticationHelper
+ *
+ * Role and responsibility checks are answered from the UserPrincipal snapshot
+ * held in the security context, so they never touch the database.
  */
 @Component
 @RequiredArgsConstructor
 public class SecurityHelper {
 
+    // Request attribute used to load the User entity at most once per request
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityHelper.class.getName() + ".currentUser";
+
     private final UserService userService;
+    private final PrincipalSnapshotRegistry principalSnapshotRegistry;
 
     /**
-     * Get the currently authenticated user from Spring Security context
+     * Get the authenticated principal snapshot (no database access unless the snapshot is stale)
      */
-    public User getCurrentUser() {
+    public UserPrincipal getCurrentPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
-            return userService.findByEmailAddress(auth.getName()).orElse(null);
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserPrincipal principal)) {
+            return null;
+        }
+
+        if (principalSnapshotRegistry.isStale(principal)) {
+            return refreshPrincipal(auth, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * Get the currently authenticated user entity.
+     * Loaded by ID at most once per HTTP request; use getCurrentPrincipal() when
+     * only id, names, role or responsibility are needed.
+     */
+    public User getCurrentUser() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object cached = requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user) {
+                return user;
+            }
+        }
+
+        UserPrincipal principal = getCurrentPrincipal();
+        if (principal == null) {
+            return null;
         }
-        return null;
+
+        User user = userService.findById(principal.getUserId()).orElse(null);
+        if (user != null) {
+            user.setResponsibilityName(principal.getResponsibilityName());
+            if (requestAttributes != null) {
+                requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Get current user's ID from the principal snapshot
+     */
+    public Long getCurrentUserId() {
+        UserPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.getUserId() : null;
+    }
+
+    /**
+     * Get current manager's responsibility ID from the principal snapshot
+     */
+    public Long getCurrentResponsibilityId() {
+        UserPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.getResponsibilityId() : null;
     }
 
     /**
      * Check if user is currently authenticated
      */
     public boolean isUserAuthenticated() {
-        return getCurrentUser() != null;
+        return getCurrentPrincipal() != null;
     }
 
     /**
      * Check if current user has specific role
      */
     public boolean hasRole(String roleName) {
-        User user = getCurrentUser();
-        return user != null && roleName.equals(user.getRoleName());
+        UserPrincipal principal = getCurrentPrincipal();
+        return principal != null && principal.hasRole(roleName);
     }
 
     /**
@@ -77,4 +141,36 @@ public class SecurityHelper {
     public boolean isAdminOrChief() {
         return isAdmin() || isChief();
     }
-}
\ No newline at end of file
+
+    /**
+     * Rebuild a stale snapshot and store it in the session's security context.
+     * Returns null if the user no longer exists.
+     */
+    private UserPrincipal refreshPrincipal(Authentication auth, UserPrincipal stalePrincipal) {
+        UserPrincipal freshPrincipal;
+        try {
+            freshPrincipal = (UserPrincipal) userService.loadUserByUsername(stalePrincipal.getUsername());
+        } catch (UsernameNotFoundException e) {
+            SecurityContextHolder.clearContext();
+            return null;
+        }
+        freshPrincipal.eraseCredentials();
+
+        UsernamePasswordAuthenticationToken refreshedAuth = UsernamePasswordAuthenticationToken.authenticated(
+                freshPrincipal, null, freshPrincipal.getAuthorities());
+        refreshedAuth.setDetails(auth.getDetails());
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(refreshedAuth);
+        SecurityContextHolder.setContext(context);
+
+        // Persist the refreshed context so later requests in this session see the new snapshot
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                    context, RequestAttributes.SCOPE_SESSION);
+        }
+
+        return freshPrincipal;
+    }
+}
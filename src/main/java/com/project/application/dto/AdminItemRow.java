@@ -0,0 +1,8 @@
+package com.project.application.dto;
+
+/**
+ * One row of the admin item list (keyset ordered by itemName, itemId)
+ */
+public record AdminItemRow(Long itemId, String itemName, String status, String responsibilityName,
+                           String ownerFirstName, String ownerLastName) {
+}
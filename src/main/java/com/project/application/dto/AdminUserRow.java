@@ -0,0 +1,8 @@
+package com.project.application.dto;
+
+/**
+ * One row of the admin user management table (keyset ordered by lastName, firstName, userId)
+ */
+public record AdminUserRow(Long userId, String firstName, String lastName, String emailAddress,
+                           String phoneNumber, String roleName) {
+}
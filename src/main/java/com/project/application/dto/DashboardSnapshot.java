@@ -0,0 +1,18 @@
+package com.project.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable dashboard read model.
+ * allEvents is the chief/admin view, ongoingEvents the view for everyone else.
+ */
+public record DashboardSnapshot(Map<ResponsibilitySummary, List<ManagerSummary>> responsibilitiesWithManagers,
+                                List<EventSummary> allEvents,
+                                List<EventSummary> ongoingEvents) {
+
+    // Pick the event list matching the viewer's role
+    public List<EventSummary> eventsFor(String roleName) {
+        return "chief".equals(roleName) || "admin".equals(roleName) ? allEvents : ongoingEvents;
+    }
+}
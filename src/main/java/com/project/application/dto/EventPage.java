@@ -0,0 +1,10 @@
+package com.project.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fully loaded view model of the event details page
+ */
+public record EventPage(EventSummary event, Map<ResponsibilitySummary, List<ManagerSummary>> responsibilitiesWithManagers) {
+}
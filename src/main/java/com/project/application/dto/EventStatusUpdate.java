@@ -0,0 +1,14 @@
+package com.project.application.dto;
+
+import java.util.Map;
+
+/**
+ * Live update of an event status change: the new status and, for each responsibility of the
+ * event, whether its items can now be requested and returned (across all of its events)
+ */
+public record EventStatusUpdate(Long eventId, String eventName, String status,
+                                Map<Long, Eligibility> responsibilities) {
+
+    public record Eligibility(boolean canRequestItems, boolean canReturnItems) {
+    }
+}
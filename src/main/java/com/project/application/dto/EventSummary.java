@@ -0,0 +1,27 @@
+package com.project.application.dto;
+
+import com.project.application.entity.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only event data for page rendering
+ */
+public record EventSummary(Long eventId, String eventName, String description, String status,
+                           LocalDateTime dateOfCreation) {
+
+    public static EventSummary from(Event event) {
+        return new EventSummary(event.getEventId(), event.getEventName(), event.getDescription(),
+                event.getStatus(), event.getDateOfCreation());
+    }
+
+    // Same rules as Event.isOngoing()
+    public boolean isOngoing() {
+        return Event.STATUS_ACTIVE.equals(status) || Event.STATUS_EQUIPMENT_RETURN.equals(status);
+    }
+
+    // Same formatting as Event.getDisplayStatus()
+    public String displayStatus() {
+        return status.toUpperCase().replace("-", " ");
+    }
+}
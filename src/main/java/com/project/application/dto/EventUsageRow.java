@@ -0,0 +1,17 @@
+package com.project.application.dto;
+
+/**
+ * Usage of one responsibility during one event, with names joined in the query
+ */
+public record EventUsageRow(Long eventId, String eventName, Long responsibilityId, String responsibilityName,
+                            long secondsInUse, long assignmentCount, long requestCount, long denialCount,
+                            long waitSeconds, long waitCount) {
+
+    public double hoursInUse() {
+        return secondsInUse / 3600.0;
+    }
+
+    public Double averageWaitMinutes() {
+        return waitCount > 0 ? waitSeconds / 60.0 / waitCount : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.application.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * An ongoing period of an event together with one of its responsibilities (utilization rollup).
+ * endedAt is null while the event is still ongoing.
+ */
+public record EventWindow(Long eventId, Long responsibilityId, LocalDateTime startedAt, LocalDateTime endedAt) {
+
+    public boolean covers(LocalDateTime time) {
+        return !time.isBefore(startedAt) && (endedAt == null || time.isBefore(endedAt));
+    }
+
+    // Seconds of [from, to) that fall inside this window
+    public long overlapSeconds(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.isAfter(startedAt) ? from : startedAt;
+        LocalDateTime end = endedAt == null || to.isBefore(endedAt) ? to : endedAt;
+        return end.isAfter(start) ? Duration.between(start, end).getSeconds() : 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.application.dto;
+
+/**
+ * A flat row produced by an export query (rendered as CSV or NDJSON)
+ */
+public interface ExportRow {
+
+    /**
+     * Cell values in the same order as the export's CSV header
+     */
+    Object[] csvValues();
+}
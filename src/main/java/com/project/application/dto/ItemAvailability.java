@@ -0,0 +1,11 @@
+package com.project.application.dto;
+
+/**
+ * The item columns a new request is validated against (status, owner and responsibility ids)
+ */
+public record ItemAvailability(Long itemId, String status, Long ownerId, Long responsibilityId) {
+
+    public boolean isOwnedBy(Long userId) {
+        return ownerId != null && ownerId.equals(userId);
+    }
+}
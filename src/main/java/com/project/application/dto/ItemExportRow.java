@@ -0,0 +1,20 @@
+package com.project.application.dto;
+
+import java.util.List;
+
+/**
+ * Item export row with owner and responsibility names joined in the query
+ */
+public record ItemExportRow(Long itemId, String itemName, String status, Long responsibilityId,
+                            String responsibilityName, Long ownerUserId, String ownerFirstName,
+                            String ownerLastName, String ownerEmail) implements ExportRow {
+
+    public static final List<String> CSV_HEADER = List.of("itemId", "itemName", "status", "responsibilityId",
+            "responsibilityName", "ownerUserId", "ownerFirstName", "ownerLastName", "ownerEmail");
+
+    @Override
+    public Object[] csvValues() {
+        return new Object[]{itemId, itemName, status, responsibilityId, responsibilityName,
+                ownerUserId, ownerFirstName, ownerLastName, ownerEmail};
+    }
+}
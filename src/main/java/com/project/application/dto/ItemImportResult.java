@@ -0,0 +1,13 @@
+package com.project.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV/TSV item import: how many rows were added and why the others were not
+ */
+public record ItemImportResult(int importedCount, int rejectedCount, List<RowError> errors, boolean errorsTruncated) {
+
+    // A rejected row (line numbers are 1-based, counting the header line)
+    public record RowError(int lineNumber, String itemName, String message) {
+    }
+}
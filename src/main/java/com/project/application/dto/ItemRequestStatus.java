@@ -0,0 +1,23 @@
+package com.project.application.dto;
+
+/**
+ * Pending request summary for one item (built from a GROUP BY item, request type query)
+ */
+public record ItemRequestStatus(boolean hasRequest, boolean hasReturn, long count) {
+
+    // Merge another request type group of the same item into this summary
+    public ItemRequestStatus with(String requestType, long typeCount) {
+        return new ItemRequestStatus(hasRequest || "request".equals(requestType),
+                hasReturn || "return".equals(requestType), count + typeCount);
+    }
+
+    // Status message shown in the manager items table (a pending return wins over requests)
+    public String message() {
+        if (hasReturn) {
+            return "Return pending";
+        } else if (hasRequest) {
+            return "Item being requested";
+        }
+        return null;
+    }
+}
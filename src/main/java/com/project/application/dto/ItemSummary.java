@@ -0,0 +1,28 @@
+package com.project.application.dto;
+
+/**
+ * Read-only item data for page rendering, with owner and responsibility joined in the query
+ */
+public record ItemSummary(Long itemId, String itemName, String status, Long userId, String userFirstName,
+                          String userLastName, Long responsibilityId, String responsibilityName) {
+
+    // Same formatting as Item.getUserFullName()
+    public String userFullName() {
+        return userId != null ? userFirstName + " " + userLastName : null;
+    }
+
+    // Same rules as Item.isAvailable()
+    public boolean isAvailable() {
+        return "Available".equals(status) && userId == null;
+    }
+
+    // Same rules as Item.isInUse()
+    public boolean isInUse() {
+        return "In Use".equals(status) && userId != null;
+    }
+
+    // Same rules as Item.isOwnedBy()
+    public boolean isOwnedBy(Long ownerId) {
+        return userId != null && userId.equals(ownerId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list; when hasMore is true the next page starts after the last row
+ */
+public record KeysetPage<T>(List<T> rows, boolean hasMore) {
+
+    /**
+     * Build a page from a query that fetched up to limit + 1 rows
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit) {
+        if (fetched.size() > limit) {
+            return new KeysetPage<>(List.copyOf(fetched.subList(0, limit)), true);
+        }
+        return new KeysetPage<>(List.copyOf(fetched), false);
+    }
+
+    public T lastRow() {
+        return rows.isEmpty() ? null : rows.get(rows.size() - 1);
+    }
+}
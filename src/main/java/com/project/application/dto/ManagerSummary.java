@@ -0,0 +1,7 @@
+package com.project.application.dto;
+
+/**
+ * Read-only manager name data for page rendering
+ */
+public record ManagerSummary(Long userId, String firstName, String lastName) {
+}
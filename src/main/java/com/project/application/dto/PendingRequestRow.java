@@ -0,0 +1,23 @@
+package com.project.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending request read model with user, item and responsibility data joined in the query
+ */
+public record PendingRequestRow(Long requestId, String requestType, LocalDateTime dateOfIssue, Long userId,
+                                String userFirstName, String userLastName, Long itemId, String itemName,
+                                Long responsibilityId, String responsibilityName) {
+
+    public String userFullName() {
+        return userFirstName + " " + userLastName;
+    }
+
+    public boolean isRequest() {
+        return "request".equals(requestType);
+    }
+
+    public boolean isReturn() {
+        return "return".equals(requestType);
+    }
+}
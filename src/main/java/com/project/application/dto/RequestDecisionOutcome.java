@@ -0,0 +1,15 @@
+package com.project.application.dto;
+
+/**
+ * Result of approving or denying one request in a batch
+ */
+public record RequestDecisionOutcome(Long requestId, boolean success, String message) {
+
+    public static RequestDecisionOutcome succeeded(Long requestId) {
+        return new RequestDecisionOutcome(requestId, true, "success");
+    }
+
+    public static RequestDecisionOutcome failed(Long requestId, String message) {
+        return new RequestDecisionOutcome(requestId, false, message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pending request export row with user, item and responsibility names joined in the query
+ */
+public record RequestExportRow(Long requestId, String requestType, LocalDateTime dateOfIssue, Long userId,
+                               String userFirstName, String userLastName, String userEmail, Long itemId,
+                               String itemName, String responsibilityName) implements ExportRow {
+
+    public static final List<String> CSV_HEADER = List.of("requestId", "requestType", "dateOfIssue", "userId",
+            "userFirstName", "userLastName", "userEmail", "itemId", "itemName", "responsibilityName");
+
+    @Override
+    public Object[] csvValues() {
+        return new Object[]{requestId, requestType, dateOfIssue, userId, userFirstName, userLastName,
+                userEmail, itemId, itemName, responsibilityName};
+    }
+}
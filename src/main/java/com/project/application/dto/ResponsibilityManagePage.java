@@ -0,0 +1,12 @@
+package com.project.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fully loaded view model of the manager's responsibility page
+ */
+public record ResponsibilityManagePage(ResponsibilitySummary responsibility, List<ManagerSummary> managers,
+                                       List<ItemSummary> items, List<PendingRequestRow> requests,
+                                       Map<Long, ItemRequestStatus> itemRequestStatuses) {
+}
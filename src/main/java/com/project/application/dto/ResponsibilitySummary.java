@@ -0,0 +1,7 @@
+package com.project.application.dto;
+
+/**
+ * Read-only responsibility data for page rendering
+ */
+public record ResponsibilitySummary(Long responsibilityId, String responsibilityName, String description) {
+}
@@ -0,0 +1,16 @@
+package com.project.application.dto;
+
+import java.util.List;
+
+/**
+ * Fully loaded view model of the responsibility page as seen by one user
+ */
+public record ResponsibilityViewPage(ResponsibilitySummary responsibility, List<ManagerSummary> managers,
+                                     List<ItemSummary> items, List<Long> requestedItemIds,
+                                     List<Long> pendingReturnItemIds, boolean canRequestItems,
+                                     boolean canReturnItems) {
+
+    public long availableItemsCount() {
+        return items.stream().filter(item -> "Available".equals(item.status())).count();
+    }
+}
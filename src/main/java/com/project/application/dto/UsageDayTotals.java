@@ -0,0 +1,14 @@
+package com.project.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Usage aggregates of all items on one day (admin utilization charts)
+ */
+public record UsageDayTotals(LocalDate day, Long secondsInUse, Long assignmentCount, Long requestCount,
+                             Long denialCount, Long waitSeconds, Long waitCount) {
+
+    public double hoursInUse() {
+        return secondsInUse != null ? secondsInUse / 3600.0 : 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.application.dto;
+
+/**
+ * Summed usage aggregates of one item or responsibility over a date range (admin utilization charts).
+ * Sums are null for items without any usage rows in the range.
+ */
+public record UsageTotals(Long id, String name, Long secondsInUse, Long assignmentCount, Long requestCount,
+                          Long denialCount, Long waitSeconds, Long waitCount) {
+
+    public double hoursInUse() {
+        return secondsInUse != null ? secondsInUse / 3600.0 : 0;
+    }
+
+    // Average request-to-assignment wait, null when nothing was assigned
+    public Double averageWaitMinutes() {
+        return waitCount != null && waitCount > 0 ? waitSeconds / 60.0 / waitCount : null;
+    }
+}
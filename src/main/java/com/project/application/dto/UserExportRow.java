@@ -0,0 +1,19 @@
+package com.project.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * User export row (never includes the password hash)
+ */
+public record UserExportRow(Long userId, String firstName, String lastName, String emailAddress,
+                            String phoneNumber, String roleName, LocalDateTime dateOfIssue) implements ExportRow {
+
+    public static final List<String> CSV_HEADER = List.of("userId", "firstName", "lastName", "emailAddress",
+            "phoneNumber", "roleName", "dateOfIssue");
+
+    @Override
+    public Object[] csvValues() {
+        return new Object[]{userId, firstName, lastName, emailAddress, phoneNumber, roleName, dateOfIssue};
+    }
+}
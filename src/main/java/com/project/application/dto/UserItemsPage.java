@@ -0,0 +1,9 @@
+package com.project.application.dto;
+
+import java.util.List;
+
+/**
+ * Fully loaded view model of the "my items" page
+ */
+public record UserItemsPage(List<ItemSummary> items, List<Long> pendingReturnItemIds, boolean canReturnItems) {
+}
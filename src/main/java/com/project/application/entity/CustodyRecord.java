@@ -0,0 +1,67 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only custody ledger: who requested, received, returned or lost
+ * an item, when, and who decided it.
+
+ * Rows are only ever inserted, in JDBC batches by CustodyLedger; the ids are plain columns
+ * without foreign keys so the history survives deleted users, items and requests.
+ */
+@Entity
+@Table(name = "custody_ledger", indexes = {
+        // History of one item in time order
+        @Index(name = "idx_custody_ledger_item", columnList = "item_id, recorded_at"),
+        @Index(name = "idx_custody_ledger_recorded_at", columnList = "recorded_at"),
+        // Request time lookup when an approval is rolled up (wait time)
+        @Index(name = "idx_custody_ledger_request", columnList = "request_id, action")
+})
+@Getter
+@NoArgsConstructor
+public class CustodyRecord {
+
+    // Actions
+    public static final String ACTION_REQUEST = "request";
+    public static final String ACTION_RETURN_REQUEST = "return-request";
+    public static final String ACTION_APPROVE = "approve";
+    public static final String ACTION_DENY = "deny";
+    public static final String ACTION_RETURN = "return";
+    public static final String ACTION_FORCED_RELEASE = "forced-release";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "record_id")
+    private Long recordId;
+
+    @Column(name = "action", nullable = false, length = 20)
+    private String action;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    // The user the item was requested by, given to or taken from
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "responsibility_id")
+    private Long responsibilityId;
+
+    // The request the action belongs to (null for forced releases)
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "request_type", length = 10)
+    private String requestType;
+
+    // Who performed the action; null when the system did (waitlist allocation)
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     @Column(name = "event_id")
     private Long eventId;
 
@@ -36,6 +37,11 @@ public class Event {
     @Column(name = "status", nullable = false, length = 20)
     private String status;
 
+    // Optimistic lock version, so concurrent status transitions cannot overwrite each other
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     // Constructor for creating event with name and description
     public Event(String eventName, String description) {
         this.eventName = eventName;
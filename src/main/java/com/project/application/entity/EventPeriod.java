@@ -0,0 +1,41 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A period during which an event was ongoing (active or equipment return), used to
+ * attribute item usage to events. Opened on activation and closed when the event
+ * returns to not-active.
+ */
+@Entity
+@Table(name = "event_periods", indexes = {
+        @Index(name = "idx_event_periods_event_open", columnList = "event_id, ended_at")
+})
+@Data
+@NoArgsConstructor
+public class EventPeriod {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_periods_seq")
+    @SequenceGenerator(name = "event_periods_seq", sequenceName = "event_periods_seq", allocationSize = 50)
+    @Column(name = "period_id")
+    private Long periodId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    public EventPeriod(Long eventId, LocalDateTime startedAt) {
+        this.eventId = eventId;
+        this.startedAt = startedAt;
+    }
+}
@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class EventResponsibility {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_responsibilities_seq")
+    @SequenceGenerator(name = "event_responsibilities_seq", sequenceName = "event_responsibilities_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
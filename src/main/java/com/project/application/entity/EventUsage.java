@@ -0,0 +1,47 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated usage of one responsibility's items during one event (all of its
+ * ongoing periods). Written only by the utilization rollup, like {@link ItemUsageDaily}.
+ */
+@Entity
+@Table(name = "event_usage", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_usage_event_responsibility", columnNames = {"event_id", "responsibility_id"})
+})
+@Getter
+@NoArgsConstructor
+public class EventUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "responsibility_id", nullable = false)
+    private Long responsibilityId;
+
+    @Column(name = "seconds_in_use", nullable = false)
+    private long secondsInUse;
+
+    @Column(name = "assignment_count", nullable = false)
+    private long assignmentCount;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "denial_count", nullable = false)
+    private long denialCount;
+
+    @Column(name = "wait_seconds", nullable = false)
+    private long waitSeconds;
+
+    @Column(name = "wait_count", nullable = false)
+    private long waitCount;
+}
@@ -7,14 +7,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        // Admin item list keyset order, unfiltered and filtered by status
+        @Index(name = "idx_items_name_keyset", columnList = "item_name, item_id"),
+        @Index(name = "idx_items_status_name", columnList = "status, item_name, item_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Item {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     @Column(name = "item_id")
     private Long itemId;
 
@@ -36,6 +41,11 @@ public class Item {
     @JoinColumn(name = "user_id", nullable = true, foreignKey = @ForeignKey(name = "FK_item_user"))
     private User user;
 
+    // Optimistic lock version; conditional and bulk item updates increment it as well
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+
     // Constructor for creating items with name and status (original)
     public Item(String itemName, String status, Responsibility responsibility) {
         this.itemName = itemName;
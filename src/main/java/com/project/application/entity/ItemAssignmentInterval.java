@@ -0,0 +1,64 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One period during which a user held an item, derived from the custody ledger by
+ * the utilization rollup. The interval stays open (releasedAt null) until the item
+ * is returned or released by an admin.
+ */
+@Entity
+@Table(name = "item_assignment_intervals", indexes = {
+        // Open interval of an item, looked up when its release is rolled up
+        @Index(name = "idx_assignment_intervals_item_open", columnList = "item_id, released_at")
+})
+@Data
+@NoArgsConstructor
+public class ItemAssignmentInterval {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_assignment_intervals_seq")
+    @SequenceGenerator(name = "item_assignment_intervals_seq", sequenceName = "item_assignment_intervals_seq", allocationSize = 50)
+    @Column(name = "interval_id")
+    private Long intervalId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "responsibility_id")
+    private Long responsibilityId;
+
+    @Column(name = "request_id")
+    private Long requestId;
+
+    // When the approved request was made (null if it predates the ledger)
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    // CustodyRecord action that ended the interval (return or forced-release)
+    @Column(name = "release_action", length = 20)
+    private String releaseAction;
+
+    public ItemAssignmentInterval(Long itemId, Long userId, Long responsibilityId, Long requestId,
+                                  LocalDateTime requestedAt, LocalDateTime assignedAt) {
+        this.itemId = itemId;
+        this.userId = userId;
+        this.responsibilityId = responsibilityId;
+        this.requestId = requestId;
+        this.requestedAt = requestedAt;
+        this.assignedAt = assignedAt;
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated usage of one item on one day. Rows are only written by the utilization
+ * rollup, which adds to them with INSERT ... ON DUPLICATE KEY UPDATE; the admin
+ * utilization charts read nothing else.
+ */
+@Entity
+@Table(name = "item_usage_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_item_usage_daily_item_date", columnNames = {"item_id", "usage_date"})
+}, indexes = {
+        // Date range scans of the admin charts
+        @Index(name = "idx_item_usage_daily_date", columnList = "usage_date, responsibility_id")
+})
+@Getter
+@NoArgsConstructor
+public class ItemUsageDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "responsibility_id")
+    private Long responsibilityId;
+
+    // Time held by users on this day, from completed assignments
+    @Column(name = "seconds_in_use", nullable = false)
+    private long secondsInUse;
+
+    @Column(name = "assignment_count", nullable = false)
+    private long assignmentCount;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "denial_count", nullable = false)
+    private long denialCount;
+
+    // Total and number of request-to-assignment waits of assignments made on this day
+    @Column(name = "wait_seconds", nullable = false)
+    private long waitSeconds;
+
+    @Column(name = "wait_count", nullable = false)
+    private long waitCount;
+}
@@ -9,14 +9,20 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "requests")
+@Table(name = "requests", uniqueConstraints = {
+        // One pending request per user and item; enforced here instead of checking before every insert
+        @UniqueConstraint(name = Request.UNIQUE_USER_ITEM, columnNames = {"user_id", "item_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Request {
 
+    public static final String UNIQUE_USER_ITEM = "uk_requests_user_item";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     @Column(name = "request_id")
     private Long requestId;
 
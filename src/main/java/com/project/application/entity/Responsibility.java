@@ -23,6 +23,10 @@ public class Responsibility {
     @Column(name = "description", length = 500)
     private String description;
 
+    // Returned items go straight to the first user on their waitlist
+    @Column(name = "auto_assign_waitlist", nullable = false, columnDefinition = "bit not null default 0")
+    private boolean autoAssignWaitlist;
+
     // Constructor for creating responsibility with name only
     public Responsibility(String responsibilityName) {
         this.responsibilityName = responsibilityName;
@@ -0,0 +1,30 @@
+package com.project.application.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of the utilization rollup: the last custody ledger row already added to
+ * the aggregates. Single row, updated in the same transaction as the aggregates, so
+ * every ledger row is counted exactly once.
+ */
+@Entity
+@Table(name = "usage_rollup_state")
+@Data
+@NoArgsConstructor
+public class UsageRollupState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "last_record_id", nullable = false)
+    private long lastRecordId;
+
+    public UsageRollupState(Long id) {
+        this.id = id;
+    }
+}
@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class UserResponsibility {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_responsibilities_seq")
+    @SequenceGenerator(name = "user_responsibilities_seq", sequenceName = "user_responsibilities_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,8 @@
+package com.project.application.event;
+
+/**
+ * Marker for domain events. Events are published through {@link DomainEventPublisher}
+ * and delivered to @EventListener methods after the publishing transaction commits.
+ */
+public interface DomainEvent {
+}
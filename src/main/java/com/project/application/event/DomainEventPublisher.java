@@ -0,0 +1,27 @@
+package com.project.application.event;
+
+import com.project.application.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes domain events once the current transaction has committed (immediately outside
+ * a transaction), so listeners never see changes that are later rolled back.
+
+ * Listeners are plain @EventListener methods. They run synchronously on the committing
+ * thread unless they are also annotated with @Async, in which case they run on the bounded
+ * domain event executor (see DomainEventConfig). The transaction has already committed
+ * when a listener runs: listeners that write to the database must be @Async or open
+ * their own transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(DomainEvent event) {
+        TransactionCallbacks.afterCommit(() -> applicationEventPublisher.publishEvent(event));
+    }
+}
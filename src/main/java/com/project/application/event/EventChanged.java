@@ -0,0 +1,9 @@
+package com.project.application.event;
+
+/**
+ * An event was created, edited or deleted, or its responsibilities changed; eventId is
+ * null when a bulk admin action changed every event. Status moves of a single event
+ * are published as {@link EventStatusChanged} instead.
+ */
+public record EventChanged(Long eventId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * An event moved to a new status (activate, return mode, back to active, complete)
+ */
+public record EventStatusChanged(Long eventId, String eventName, String status) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * An item was given to a user (manager approval or waitlist allocation of the request)
+ */
+public record ItemAssigned(Long itemId, Long userId, Long responsibilityId, Long requestId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * An item was taken from its owner by an admin action (bulk release or user deletion)
+ */
+public record ItemForceReleased(Long itemId, Long userId, Long responsibilityId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * A user's item was released back to its responsibility (approved return request)
+ */
+public record ItemReturned(Long itemId, Long userId, Long responsibilityId, Long requestId) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * A user became a manager of a responsibility
+ */
+public record ManagerAssigned(Long userId, Long responsibilityId) implements DomainEvent {
+}
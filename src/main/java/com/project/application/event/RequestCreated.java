@@ -0,0 +1,8 @@
+package com.project.application.event;
+
+/**
+ * A user's item request or return request was stored
+ */
+public record RequestCreated(Long requestId, Long userId, Long itemId, Long responsibilityId,
+                             String requestType) implements DomainEvent {
+}
@@ -0,0 +1,8 @@
+package com.project.application.event;
+
+/**
+ * A manager denied a pending item request or return request
+ */
+public record RequestDenied(Long requestId, Long userId, Long itemId, Long responsibilityId,
+                            String requestType) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.project.application.event;
+
+/**
+ * A responsibility was created or changed (description, settings, or a manager left)
+ */
+public record ResponsibilityChanged(Long responsibilityId) implements DomainEvent {
+}
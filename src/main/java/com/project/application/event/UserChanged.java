@@ -0,0 +1,8 @@
+package com.project.application.event;
+
+/**
+ * A user's name or role changed, or the user was deleted; userId is null when a bulk
+ * admin action deleted many users
+ */
+public record UserChanged(Long userId) implements DomainEvent {
+}
@@ -0,0 +1,26 @@
+package com.project.application.repository;
+
+import com.project.application.entity.CustodyRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read access to the custody ledger; rows are inserted by CustodyLedger through JDBC
+ */
+@Repository
+public interface CustodyRecordRepository extends JpaRepository<CustodyRecord, Long> {
+
+    // Next ledger rows after a rollup watermark, in insertion order
+    List<CustodyRecord> findByRecordIdGreaterThanOrderByRecordId(Long recordId, Limit limit);
+
+    // When the given requests were made: rows of [requestId, recordedAt]
+    @Query("SELECT c.requestId, MIN(c.recordedAt) FROM CustodyRecord c " +
+            "WHERE c.requestId IN :requestIds AND c.action = 'request' GROUP BY c.requestId")
+    List<Object[]> findRequestTimes(@Param("requestIds") Collection<Long> requestIds);
+}
@@ -0,0 +1,24 @@
+package com.project.application.repository;
+
+import com.project.application.dto.EventWindow;
+import com.project.application.entity.EventPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventPeriodRepository extends JpaRepository<EventPeriod, Long> {
+
+    // The open period of an event, if it is ongoing
+    Optional<EventPeriod> findFirstByEventIdAndEndedAtIsNull(Long eventId);
+
+    List<EventPeriod> findByEndedAtIsNull();
+
+    // Every event period paired with each responsibility of the event (utilization rollup)
+    @Query("SELECT new com.project.application.dto.EventWindow(p.eventId, er.responsibility.responsibilityId, " +
+            "p.startedAt, p.endedAt) FROM EventPeriod p JOIN EventResponsibility er ON er.event.eventId = p.eventId")
+    List<EventWindow> findEventWindows();
+}
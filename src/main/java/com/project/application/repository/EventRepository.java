@@ -2,6 +2,7 @@ package com.project.application.repository;
 
 import com.project.application.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -27,4 +28,24 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Check if event name already exists (case insensitive)
     @Query("SELECT COUNT(e) > 0 FROM Event e WHERE LOWER(e.eventName) = LOWER(?1)")
     boolean existsByEventNameIgnoreCase(String eventName);
+
+    // Count events per status (admin metrics)
+    @Query("SELECT e.status, COUNT(e) FROM Event e GROUP BY e.status")
+    List<Object[]> countByStatusGrouped();
+
+    // Count events with a specific status
+    long countByStatus(String status);
+
+    // Count events not in a status (progress total of bulk status changes)
+    long countByStatusNot(String status);
+
+    // Set every ongoing event to not-active in one statement
+    @Modifying
+    @Query("UPDATE Event e SET e.status = 'not-active', e.version = e.version + 1 WHERE e.status <> 'not-active'")
+    int deactivateAllOngoing();
+
+    // Set every active event to equipment return in one statement
+    @Modifying
+    @Query("UPDATE Event e SET e.status = 'equipment return', e.version = e.version + 1 WHERE e.status = 'active'")
+    int switchAllActiveToReturn();
 }
\ No newline at end of file
@@ -19,6 +19,10 @@ public interface EventResponsibilityRepository extends JpaRepository<EventRespon
     @Query("SELECT er.responsibility FROM EventResponsibility er WHERE er.event.eventId = :eventId")
     List<Responsibility> findResponsibilitiesByEventId(@Param("eventId") Long eventId);
 
+    // Only the responsibility ids of an event (live event status updates)
+    @Query("SELECT er.responsibility.responsibilityId FROM EventResponsibility er WHERE er.event.eventId = :eventId")
+    List<Long> findResponsibilityIdsByEventId(@Param("eventId") Long eventId);
+
     /**
      * Check if a specific responsibility is already assigned to a specific event
      */
@@ -63,4 +67,11 @@ public interface EventResponsibilityRepository extends JpaRepository<EventRespon
      * Used when deleting an event to remove all its responsibility assignments
      */
     void deleteByEventEventId(Long eventId);
+
+    /**
+     * Find (responsibilityId, eventStatus) pairs for all assignments whose event has one of the given statuses
+     * Used to build the in-memory responsibility eligibility index
+     */
+    @Query("SELECT er.responsibility.responsibilityId, er.event.status FROM EventResponsibility er WHERE er.event.status IN :statuses")
+    List<Object[]> findResponsibilityIdsAndEventStatuses(@Param("statuses") List<String> statuses);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.project.application.repository;
+
+import com.project.application.dto.EventUsageRow;
+import com.project.application.entity.EventUsage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EventUsageRepository extends JpaRepository<EventUsage, Long> {
+
+    // Usage per event and responsibility, newest events first
+    @Query("SELECT new com.project.application.dto.EventUsageRow(e.eventId, e.eventName, r.responsibilityId, " +
+            "r.responsibilityName, u.secondsInUse, u.assignmentCount, u.requestCount, u.denialCount, " +
+            "u.waitSeconds, u.waitCount) " +
+            "FROM EventUsage u JOIN Event e ON e.eventId = u.eventId " +
+            "JOIN Responsibility r ON r.responsibilityId = u.responsibilityId " +
+            "ORDER BY e.eventId DESC, r.responsibilityName")
+    List<EventUsageRow> findRows(Limit limit);
+}
@@ -0,0 +1,15 @@
+package com.project.application.repository;
+
+import com.project.application.entity.ItemAssignmentInterval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemAssignmentIntervalRepository extends JpaRepository<ItemAssignmentInterval, Long> {
+
+    // Intervals of the given items that have not been released yet
+    List<ItemAssignmentInterval> findByItemIdInAndReleasedAtIsNull(Collection<Long> itemIds);
+}
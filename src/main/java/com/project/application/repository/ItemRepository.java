@@ -1,13 +1,25 @@
 package com.project.application.repository;
 
+import com.project.application.dto.AdminItemRow;
+import com.project.application.dto.ItemAvailability;
+import com.project.application.dto.ItemExportRow;
+import com.project.application.dto.ItemSummary;
 import com.project.application.entity.Item;
+import com.project.application.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
@@ -41,4 +53,148 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     // Count items owned by a specific user
     @Query("SELECT COUNT(i) FROM Item i WHERE i.user.userId = :userId")
     long countByUser_UserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // Get only the item names of a responsibility (duplicate checks on import)
+    @Query("SELECT i.itemName FROM Item i WHERE i.responsibility.responsibilityId = :responsibilityId")
+    List<String> findItemNamesByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
+
+    // ========== READ MODELS (owner and responsibility joined in one query) ==========
+
+    // Items of a responsibility for page rendering
+    @Query("SELECT new com.project.application.dto.ItemSummary(i.itemId, i.itemName, i.status, " +
+            "u.userId, u.firstName, u.lastName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Item i JOIN i.responsibility resp LEFT JOIN i.user u " +
+            "WHERE resp.responsibilityId = :responsibilityId ORDER BY i.itemName")
+    List<ItemSummary> findSummariesByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
+
+    // Status, owner and responsibility of one item, without loading the entity (request validation)
+    @Query("SELECT new com.project.application.dto.ItemAvailability(i.itemId, i.status, u.userId, " +
+            "i.responsibility.responsibilityId) FROM Item i LEFT JOIN i.user u WHERE i.itemId = :itemId")
+    Optional<ItemAvailability> findAvailabilityById(@Param("itemId") Long itemId);
+
+    // Items by id with owner and responsibility (live item updates)
+    @Query("SELECT new com.project.application.dto.ItemSummary(i.itemId, i.itemName, i.status, " +
+            "u.userId, u.firstName, u.lastName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Item i JOIN i.responsibility resp LEFT JOIN i.user u WHERE i.itemId IN :itemIds")
+    List<ItemSummary> findSummariesByIds(@Param("itemIds") Collection<Long> itemIds);
+
+    // Items owned by a user for page rendering
+    @Query("SELECT new com.project.application.dto.ItemSummary(i.itemId, i.itemName, i.status, " +
+            "u.userId, u.firstName, u.lastName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Item i JOIN i.responsibility resp JOIN i.user u " +
+            "WHERE u.userId = :userId ORDER BY i.itemName")
+    List<ItemSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    // ========== AGGREGATES (admin metrics) ==========
+
+    // Per status: total items and items with an owner
+    @Query("SELECT i.status, COUNT(i), COUNT(i.user) FROM Item i GROUP BY i.status")
+    List<Object[]> countByStatusWithOwned();
+
+    // Count items with a status that have an owner
+    long countByStatusAndUserIsNotNull(String status);
+
+    // Count items not in a status (progress total of bulk status changes)
+    long countByStatusNot(String status);
+
+    // Count in-use items of responsibilities in ongoing events (same rows as the ongoing-event release below)
+    @Query("SELECT COUNT(i) FROM Item i WHERE i.status = 'In Use' AND i.responsibility.responsibilityId IN " +
+            "(SELECT er.responsibility.responsibilityId FROM EventResponsibility er WHERE er.event.status <> 'not-active')")
+    long countInUseOfOngoingEvents();
+
+    // ========== ADMIN ITEM LIST (keyset pagination on itemName, itemId) ==========
+
+    // One page of items after the given key (null key = first page); search is a prefix pattern on the
+    // item name. Uses idx_items_name_keyset, or idx_items_status_name when filtering by status.
+    @Query("SELECT new com.project.application.dto.AdminItemRow(i.itemId, i.itemName, i.status, " +
+            "resp.responsibilityName, u.firstName, u.lastName) " +
+            "FROM Item i JOIN i.responsibility resp LEFT JOIN i.user u " +
+            "WHERE (:status IS NULL OR i.status = :status) " +
+            "AND (:search IS NULL OR i.itemName LIKE :search) " +
+            "AND (:afterItemId IS NULL OR i.itemName > :afterItemName " +
+            "OR (i.itemName = :afterItemName AND i.itemId > :afterItemId)) " +
+            "ORDER BY i.itemName, i.itemId")
+    List<AdminItemRow> findItemPage(@Param("status") String status,
+                                    @Param("search") String search,
+                                    @Param("afterItemName") String afterItemName,
+                                    @Param("afterItemId") Long afterItemId,
+                                    Limit limit);
+
+    // ========== ASSIGNMENT (conditional updates, safe under concurrent approvals) ==========
+
+    // Assign an item to a user only if nobody owns it and it is Available; returns 0 if another
+    // approval got there first or a manager made the item Unavailable
+    @Modifying
+    @Query("UPDATE Item i SET i.user = :user, i.status = 'In Use', i.version = i.version + 1 " +
+            "WHERE i.itemId = :itemId AND i.user IS NULL AND i.status = 'Available'")
+    int claimIfAvailable(@Param("itemId") Long itemId, @Param("user") User user);
+
+    // Release an item only if it is still owned by the given user; returns 0 otherwise
+    @Modifying
+    @Query("UPDATE Item i SET i.user = NULL, i.status = 'Available', i.version = i.version + 1 " +
+            "WHERE i.itemId = :itemId AND i.user.userId = :userId")
+    int releaseIfOwnedBy(@Param("itemId") Long itemId, @Param("userId") Long userId);
+
+    // ========== BULK OPERATIONS (processed in item id ranges) ==========
+
+    // Lowest item id (null if there are no items)
+    @Query("SELECT MIN(i.itemId) FROM Item i")
+    Long findMinItemId();
+
+    // Highest item id (null if there are no items)
+    @Query("SELECT MAX(i.itemId) FROM Item i")
+    Long findMaxItemId();
+
+    // Owned items in an id range, read before a bulk release (custody ledger)
+    @Query("SELECT new com.project.application.dto.ItemAvailability(i.itemId, i.status, i.user.userId, " +
+            "i.responsibility.responsibilityId) FROM Item i WHERE i.itemId BETWEEN :fromId AND :toId AND i.user IS NOT NULL")
+    List<ItemAvailability> findOwnedInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Owned items of a responsibility, read before the responsibility's items are deleted (custody ledger)
+    @Query("SELECT new com.project.application.dto.ItemAvailability(i.itemId, i.status, i.user.userId, " +
+            "i.responsibility.responsibilityId) FROM Item i WHERE i.responsibility.responsibilityId = :responsibilityId " +
+            "AND i.user IS NOT NULL")
+    List<ItemAvailability> findOwnedByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
+
+    // Owned in-use items of responsibilities in ongoing events in an id range (same rows as the release below)
+    @Query("SELECT new com.project.application.dto.ItemAvailability(i.itemId, i.status, i.user.userId, " +
+            "i.responsibility.responsibilityId) FROM Item i " +
+            "WHERE i.itemId BETWEEN :fromId AND :toId AND i.status = 'In Use' AND i.user IS NOT NULL " +
+            "AND i.responsibility.responsibilityId IN " +
+            "(SELECT er.responsibility.responsibilityId FROM EventResponsibility er WHERE er.event.status <> 'not-active')")
+    List<ItemAvailability> findOwnedOfOngoingEventsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Remove owner and mark unavailable for in-use items in an id range
+    @Modifying
+    @Query("UPDATE Item i SET i.user = NULL, i.status = 'Unavailable', i.version = i.version + 1 " +
+            "WHERE i.itemId BETWEEN :fromId AND :toId AND i.status = 'In Use' AND i.user IS NOT NULL")
+    int releaseInUseItemsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Remove owner and mark unavailable for every not-yet-unavailable item in an id range
+    @Modifying
+    @Query("UPDATE Item i SET i.user = NULL, i.status = 'Unavailable', i.version = i.version + 1 " +
+            "WHERE i.itemId BETWEEN :fromId AND :toId AND i.status <> 'Unavailable'")
+    int makeUnavailableInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Remove owner and mark unavailable for in-use items of responsibilities in ongoing events, in an id range
+    @Modifying
+    @Query("UPDATE Item i SET i.user = NULL, i.status = 'Unavailable', i.version = i.version + 1 " +
+            "WHERE i.itemId BETWEEN :fromId AND :toId AND i.status = 'In Use' " +
+            "AND i.responsibility.responsibilityId IN " +
+            "(SELECT er.responsibility.responsibilityId FROM EventResponsibility er WHERE er.event.status <> 'not-active')")
+    int releaseInUseItemsOfOngoingEventsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Delete all items in an id range
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.itemId BETWEEN :fromId AND :toId")
+    int deleteInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // ========== EXPORT (streamed, MySQL row-by-row fetch) ==========
+
+    // All items with owner and responsibility names; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.project.application.dto.ItemExportRow(i.itemId, i.itemName, i.status, " +
+            "r.responsibilityId, r.responsibilityName, u.userId, u.firstName, u.lastName, u.emailAddress) " +
+            "FROM Item i JOIN i.responsibility r LEFT JOIN i.user u ORDER BY i.itemId")
+    Stream<ItemExportRow> streamAllForExport();
+}
@@ -0,0 +1,44 @@
+package com.project.application.repository;
+
+import com.project.application.dto.UsageDayTotals;
+import com.project.application.dto.UsageTotals;
+import com.project.application.entity.ItemUsageDaily;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ItemUsageDailyRepository extends JpaRepository<ItemUsageDaily, Long> {
+
+    // All items per day in a date range
+    @Query("SELECT new com.project.application.dto.UsageDayTotals(d.usageDate, SUM(d.secondsInUse), " +
+            "SUM(d.assignmentCount), SUM(d.requestCount), SUM(d.denialCount), SUM(d.waitSeconds), SUM(d.waitCount)) " +
+            "FROM ItemUsageDaily d WHERE d.usageDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY d.usageDate ORDER BY d.usageDate")
+    List<UsageDayTotals> findDayTotals(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // Per responsibility in a date range, busiest first
+    @Query("SELECT new com.project.application.dto.UsageTotals(r.responsibilityId, r.responsibilityName, " +
+            "SUM(d.secondsInUse), SUM(d.assignmentCount), SUM(d.requestCount), SUM(d.denialCount), " +
+            "SUM(d.waitSeconds), SUM(d.waitCount)) " +
+            "FROM ItemUsageDaily d JOIN Responsibility r ON r.responsibilityId = d.responsibilityId " +
+            "WHERE d.usageDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY r.responsibilityId, r.responsibilityName ORDER BY SUM(d.secondsInUse) DESC")
+    List<UsageTotals> findResponsibilityTotals(@Param("fromDate") LocalDate fromDate,
+                                               @Param("toDate") LocalDate toDate);
+
+    // Current items by usage in a date range, least used (idle) first
+    @Query("SELECT new com.project.application.dto.UsageTotals(i.itemId, i.itemName, " +
+            "SUM(d.secondsInUse), SUM(d.assignmentCount), SUM(d.requestCount), SUM(d.denialCount), " +
+            "SUM(d.waitSeconds), SUM(d.waitCount)) " +
+            "FROM Item i LEFT JOIN ItemUsageDaily d ON d.itemId = i.itemId " +
+            "AND d.usageDate BETWEEN :fromDate AND :toDate " +
+            "GROUP BY i.itemId, i.itemName ORDER BY COALESCE(SUM(d.secondsInUse), 0), i.itemName")
+    List<UsageTotals> findLeastUsedItems(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+                                         Limit limit);
+}
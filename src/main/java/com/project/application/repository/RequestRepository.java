@@ -1,14 +1,21 @@
 package com.project.application.repository;
 
+import com.project.application.dto.PendingRequestRow;
+import com.project.application.dto.RequestExportRow;
 import com.project.application.entity.Request;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
@@ -17,6 +24,51 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
     @Query("SELECT r FROM Request r WHERE r.item.responsibility.responsibilityId = :responsibilityId ORDER BY r.dateOfIssue DESC")
     List<Request> findByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
 
+    // ========== READ MODELS (user, item and responsibility joined in one query) ==========
+
+    // Pending requests of a responsibility for the manager request inbox, newest first
+    @Query("SELECT new com.project.application.dto.PendingRequestRow(r.requestId, r.requestType, r.dateOfIssue, " +
+            "u.userId, u.firstName, u.lastName, i.itemId, i.itemName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Request r JOIN r.user u JOIN r.item i JOIN i.responsibility resp " +
+            "WHERE resp.responsibilityId = :responsibilityId ORDER BY r.dateOfIssue DESC")
+    List<PendingRequestRow> findRowsByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
+
+    // Pending requests made by a user, newest first
+    @Query("SELECT new com.project.application.dto.PendingRequestRow(r.requestId, r.requestType, r.dateOfIssue, " +
+            "u.userId, u.firstName, u.lastName, i.itemId, i.itemName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Request r JOIN r.user u JOIN r.item i JOIN i.responsibility resp " +
+            "WHERE u.userId = :userId ORDER BY r.dateOfIssue DESC")
+    List<PendingRequestRow> findRowsByUserId(@Param("userId") Long userId);
+
+    // Pending request rows by id (live updates of the manager request inbox)
+    @Query("SELECT new com.project.application.dto.PendingRequestRow(r.requestId, r.requestType, r.dateOfIssue, " +
+            "u.userId, u.firstName, u.lastName, i.itemId, i.itemName, resp.responsibilityId, resp.responsibilityName) " +
+            "FROM Request r JOIN r.user u JOIN r.item i JOIN i.responsibility resp " +
+            "WHERE r.requestId IN :requestIds ORDER BY r.dateOfIssue")
+    List<PendingRequestRow> findRowsByIds(@Param("requestIds") Collection<Long> requestIds);
+
+    // A request with its item (approve/deny need the item's responsibility)
+    @Query("SELECT r FROM Request r JOIN FETCH r.item WHERE r.requestId = :requestId")
+    Optional<Request> findWithItemById(@Param("requestId") Long requestId);
+
+    // Responsibility of a request's item (permission checks without loading the request graph)
+    @Query("SELECT r.item.responsibility.responsibilityId FROM Request r WHERE r.requestId = :requestId")
+    Optional<Long> findResponsibilityIdByRequestId(@Param("requestId") Long requestId);
+
+    // Requests of a responsibility by id with their items, oldest first (batch approve/deny)
+    @Query("SELECT r FROM Request r JOIN FETCH r.item i " +
+            "WHERE r.requestId IN :requestIds AND i.responsibility.responsibilityId = :responsibilityId " +
+            "ORDER BY r.dateOfIssue, r.requestId")
+    List<Request> findForDecision(@Param("requestIds") Collection<Long> requestIds,
+                                  @Param("responsibilityId") Long responsibilityId);
+
+    // Waitlists of free items whose responsibility auto-assigns, grouped by item and oldest first
+    @Query("SELECT r FROM Request r JOIN FETCH r.item i " +
+            "WHERE i.itemId IN :itemIds AND r.requestType = 'request' " +
+            "AND i.status = 'Available' AND i.user IS NULL AND i.responsibility.autoAssignWaitlist = true " +
+            "ORDER BY i.itemId, r.dateOfIssue, r.requestId")
+    List<Request> findWaitlistsForAllocation(@Param("itemIds") Collection<Long> itemIds);
+
     // Find all requests by a specific user
     @Query("SELECT r FROM Request r WHERE r.user.userId = :userId ORDER BY r.dateOfIssue DESC")
     List<Request> findByUserId(@Param("userId") Long userId);
@@ -44,6 +96,11 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
     @Query("SELECT COUNT(r) FROM Request r WHERE r.item.responsibility.responsibilityId = :responsibilityId")
     long countByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
 
+    // Per item and request type: number of pending requests in a responsibility (manager items table)
+    @Query("SELECT r.item.itemId, r.requestType, COUNT(r) FROM Request r " +
+            "WHERE r.item.responsibility.responsibilityId = :responsibilityId GROUP BY r.item.itemId, r.requestType")
+    List<Object[]> countByItemAndTypeForResponsibility(@Param("responsibilityId") Long responsibilityId);
+
     // Count pending requests by user
     @Query("SELECT COUNT(r) FROM Request r WHERE r.user.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
@@ -63,4 +120,40 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
     @Modifying
     @Query("DELETE FROM Request r WHERE r.item.responsibility.responsibilityId = :responsibilityId AND r.requestType = :requestType")
     void deleteByResponsibilityIdAndRequestType(@Param("responsibilityId") Long responsibilityId, @Param("requestType") String requestType);
-}
\ No newline at end of file
+
+    // ========== BULK OPERATIONS (processed in item id ranges) ==========
+
+    // Delete requests for in-use items in an item id range
+    @Modifying
+    @Query("DELETE FROM Request r WHERE r.item.itemId IN " +
+            "(SELECT i.itemId FROM Item i WHERE i.itemId BETWEEN :fromId AND :toId AND i.status = 'In Use' AND i.user IS NOT NULL)")
+    int deleteForInUseItemsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Delete requests for not-yet-unavailable items in an item id range
+    @Modifying
+    @Query("DELETE FROM Request r WHERE r.item.itemId IN " +
+            "(SELECT i.itemId FROM Item i WHERE i.itemId BETWEEN :fromId AND :toId AND i.status <> 'Unavailable')")
+    int deleteForNotUnavailableItemsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Delete requests for items of responsibilities in ongoing events, in an item id range
+    @Modifying
+    @Query("DELETE FROM Request r WHERE r.item.itemId IN " +
+            "(SELECT i.itemId FROM Item i WHERE i.itemId BETWEEN :fromId AND :toId " +
+            "AND i.responsibility.responsibilityId IN " +
+            "(SELECT er.responsibility.responsibilityId FROM EventResponsibility er WHERE er.event.status <> 'not-active'))")
+    int deleteForItemsOfOngoingEventsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Delete all requests for items in an item id range
+    @Modifying
+    @Query("DELETE FROM Request r WHERE r.item.itemId BETWEEN :fromId AND :toId")
+    int deleteForItemsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // ========== EXPORT (streamed, MySQL row-by-row fetch) ==========
+
+    // All pending requests with user, item and responsibility names; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.project.application.dto.RequestExportRow(r.requestId, r.requestType, r.dateOfIssue, " +
+            "u.userId, u.firstName, u.lastName, u.emailAddress, i.itemId, i.itemName, resp.responsibilityName) " +
+            "FROM Request r JOIN r.user u JOIN r.item i JOIN i.responsibility resp ORDER BY r.dateOfIssue, r.requestId")
+    Stream<RequestExportRow> streamAllForExport();
+}
@@ -2,8 +2,10 @@ package com.project.application.repository;
 
 import com.project.application.entity.Responsibility;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,10 @@ public interface ResponsibilityRepository extends JpaRepository<Responsibility,
 
     // Check if responsibility exists by name
     boolean existsByResponsibilityName(String responsibilityName);
+
+    // All responsibilities with their managers' names in one query (one row per manager, manager columns null if none)
+    @Query("SELECT r.responsibilityId, r.responsibilityName, r.description, u.userId, u.firstName, u.lastName " +
+            "FROM Responsibility r LEFT JOIN UserResponsibility ur ON ur.responsibility = r LEFT JOIN ur.user u " +
+            "ORDER BY r.responsibilityName, u.firstName, u.lastName")
+    List<Object[]> findAllWithManagerNames();
 }
\ No newline at end of file
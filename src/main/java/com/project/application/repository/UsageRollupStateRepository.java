@@ -0,0 +1,9 @@
+package com.project.application.repository;
+
+import com.project.application.entity.UsageRollupState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UsageRollupStateRepository extends JpaRepository<UsageRollupState, Long> {
+}
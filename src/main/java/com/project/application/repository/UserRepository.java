@@ -1,12 +1,20 @@
 package com.project.application.repository;
 
+import com.project.application.dto.AdminUserRow;
+import com.project.application.dto.UserExportRow;
 import com.project.application.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 // Marks this as a Spring repository component (data access layer)
 @Repository
@@ -21,4 +29,52 @@ public interface UserRepository extends JpaRepository<User, Long> { // User - en
     // Get all users except admins
     @Query("SELECT u FROM User u WHERE u.role.name != 'admin' ORDER BY u.firstName, u.lastName")
     List<User> findAllNonAdminUsers();
-}
\ No newline at end of file
+
+    // Count non-admin users per role (admin metrics)
+    @Query("SELECT u.role.name, COUNT(u) FROM User u WHERE u.role.name != 'admin' GROUP BY u.role.name")
+    List<Object[]> countNonAdminUsersByRole();
+
+    // Get ids of all users except admins (for chunked bulk operations)
+    @Query("SELECT u.userId FROM User u WHERE u.role.name != 'admin' ORDER BY u.userId")
+    List<Long> findAllNonAdminUserIds();
+
+    // Get ids of all users with a specific role (for chunked bulk operations)
+    @Query("SELECT u.userId FROM User u WHERE u.role.name = :roleName ORDER BY u.userId")
+    List<Long> findUserIdsByRoleName(@Param("roleName") String roleName);
+
+    // Count users except admins
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role.name != 'admin'")
+    long countNonAdminUsers();
+
+    // Count users with a specific role
+    long countByRole_Name(String roleName);
+
+    // ========== ADMIN USER LIST (keyset pagination on lastName, firstName, userId) ==========
+
+    // One page of non-admin users after the given key (null key = first page); search is a prefix pattern
+    // on first name, last name, email or phone. Uses idx_users_name_keyset for the ordering.
+    @Query("SELECT new com.project.application.dto.AdminUserRow(u.userId, u.firstName, u.lastName, " +
+            "u.emailAddress, u.phoneNumber, ro.name) FROM User u JOIN u.role ro " +
+            "WHERE ro.name != 'admin' " +
+            "AND (:roleName IS NULL OR ro.name = :roleName) " +
+            "AND (:excludedRoleName IS NULL OR ro.name != :excludedRoleName) " +
+            "AND (:search IS NULL OR u.lastName LIKE :search OR u.firstName LIKE :search " +
+            "OR u.emailAddress LIKE :search OR u.phoneNumber LIKE :search) " +
+            "AND (:afterUserId IS NULL OR u.lastName > :afterLastName " +
+            "OR (u.lastName = :afterLastName AND u.firstName > :afterFirstName) " +
+            "OR (u.lastName = :afterLastName AND u.firstName = :afterFirstName AND u.userId > :afterUserId)) " +
+            "ORDER BY u.lastName, u.firstName, u.userId")
+    List<AdminUserRow> findUserPage(@Param("roleName") String roleName,
+                                    @Param("excludedRoleName") String excludedRoleName,
+                                    @Param("search") String search,
+                                    @Param("afterLastName") String afterLastName,
+                                    @Param("afterFirstName") String afterFirstName,
+                                    @Param("afterUserId") Long afterUserId,
+                                    Limit limit);
+
+    // All users with their role name, for export; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.project.application.dto.UserExportRow(u.userId, u.firstName, u.lastName, " +
+            "u.emailAddress, u.phoneNumber, ro.name, u.dateOfIssue) FROM User u JOIN u.role ro ORDER BY u.userId")
+    Stream<UserExportRow> streamAllForExport();
+}
@@ -1,5 +1,6 @@
 package com.project.application.repository;
 
+import com.project.application.dto.ManagerSummary;
 import com.project.application.entity.UserResponsibility;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,14 +13,26 @@ import java.util.Optional;
 @Repository
 public interface UserResponsibilityRepository extends JpaRepository<UserResponsibility, Long> {
 
-    // Find user's current responsibility
-    @Query("SELECT ur FROM UserResponsibility ur WHERE ur.user.userId = :userId")
+    // Find user's current responsibility (responsibility fetched, so it can be read outside a transaction)
+    @Query("SELECT ur FROM UserResponsibility ur JOIN FETCH ur.responsibility WHERE ur.user.userId = :userId")
     Optional<UserResponsibility> findByUserId(@Param("userId") Long userId);
 
-    // Find all managers for a specific responsibility
-    @Query("SELECT ur FROM UserResponsibility ur WHERE ur.responsibility.responsibilityId = :responsibilityId")
+    // Find all managers for a specific responsibility (users fetched, so they can be read outside a transaction)
+    @Query("SELECT ur FROM UserResponsibility ur JOIN FETCH ur.user WHERE ur.responsibility.responsibilityId = :responsibilityId")
     List<UserResponsibility> findByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
 
+    // Manager names of a responsibility for page rendering
+    @Query("SELECT new com.project.application.dto.ManagerSummary(u.userId, u.firstName, u.lastName) " +
+            "FROM UserResponsibility ur JOIN ur.user u WHERE ur.responsibility.responsibilityId = :responsibilityId " +
+            "ORDER BY u.firstName, u.lastName")
+    List<ManagerSummary> findManagerSummariesByResponsibilityId(@Param("responsibilityId") Long responsibilityId);
+
+    // (responsibilityId, userId, firstName, lastName) for the managers of several responsibilities
+    @Query("SELECT ur.responsibility.responsibilityId, u.userId, u.firstName, u.lastName " +
+            "FROM UserResponsibility ur JOIN ur.user u WHERE ur.responsibility.responsibilityId IN :responsibilityIds " +
+            "ORDER BY u.firstName, u.lastName")
+    List<Object[]> findManagerNamesByResponsibilityIds(@Param("responsibilityIds") List<Long> responsibilityIds);
+
     // Check if user already has a responsibility
     boolean existsByUser_UserId(Long userId);
 
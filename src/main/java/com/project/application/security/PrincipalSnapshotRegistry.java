@@ -0,0 +1,56 @@
+package com.project.application.security;
+
+import com.project.application.util.TransactionCallbacks;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks when each user's principal snapshot was last invalidated.
+ *
+ * Services call {@link #invalidate(Long)} whenever they change data captured in a
+ * {@link UserPrincipal} (names, role, responsibility assignment). Principals carry the
+ * version that was current when they were built, so a stale snapshot is detected with
+ * a single map lookup and rebuilt lazily on that user's next request.
+ */
+@Component
+public class PrincipalSnapshotRegistry {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Get the version to stamp on a new snapshot.
+     * Must be read BEFORE loading the user data the snapshot is built from.
+     */
+    public long currentVersion() {
+        return clock.get();
+    }
+
+    /**
+     * Check if a principal was built from outdated user data
+     */
+    public boolean isStale(UserPrincipal principal) {
+        Long lastInvalidation = invalidatedAt.get(principal.getUserId());
+        return lastInvalidation != null && lastInvalidation > principal.getSnapshotVersion();
+    }
+
+    /**
+     * Mark a user's snapshot as stale.
+     * Inside a transaction the bump is deferred until commit, so a concurrent
+     * request cannot rebuild the snapshot from uncommitted (old) data.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> bump(userId));
+    }
+
+    private void bump(Long userId) {
+        invalidatedAt.put(userId, clock.incrementAndGet());
+    }
+}
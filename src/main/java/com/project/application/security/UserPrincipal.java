@@ -0,0 +1,65 @@
+package com.project.application.security;
+
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Authenticated principal stored in the security context.
+ *
+ * Carries an immutable snapshot of the data every page needs (id, names, role and,
+ * for managers, their responsibility) so that navbar and permission checks do not
+ * have to query the users and user_responsibilities tables on every request.
+ * The snapshot is versioned through {@link PrincipalSnapshotRegistry} and is
+ * rebuilt when the underlying user data changes.
+ */
+@Getter
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long userId;
+    private final String emailAddress;
+    private final String firstName;
+    private final String lastName;
+    private final String roleName;
+    private final Long responsibilityId;
+    private final String responsibilityName;
+    private final long snapshotVersion;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private String password;
+
+    public UserPrincipal(Long userId, String emailAddress, String password, String firstName, String lastName,
+                         String roleName, Long responsibilityId, String responsibilityName, long snapshotVersion) {
+        this.userId = userId;
+        this.emailAddress = emailAddress;
+        this.password = password;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.roleName = roleName;
+        this.responsibilityId = responsibilityId;
+        this.responsibilityName = responsibilityName;
+        this.snapshotVersion = snapshotVersion;
+        this.authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + roleName.toUpperCase()));
+    }
+
+    // Convenience method to check if principal has specific role
+    public boolean hasRole(String roleName) {
+        return this.roleName != null && this.roleName.equals(roleName);
+    }
+
+    @Override
+    public String getUsername() {
+        return emailAddress;
+    }
+
+    // Password is only needed during authentication, drop it afterwards
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
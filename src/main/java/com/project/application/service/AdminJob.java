@@ -0,0 +1,120 @@
+package com.project.application.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A single run of an admin bulk action, tracked by {@link AdminJobService}.
+
+ * The job is handed to the service method as its {@link BulkProgress}, so progress
+ * is reported in committed chunks and cancellation takes effect between chunks.
+ */
+@Getter
+public class AdminJob implements BulkProgress {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final AdminJobType type;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancellationRequested;
+    private volatile String message = "Queued";
+    private volatile Integer count;
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicLong totalRows = new AtomicLong();
+    private final AtomicLong processedRows = new AtomicLong();
+
+    public AdminJob(AdminJobType type) {
+        this.type = type;
+    }
+
+    // ========== PROGRESS (called by the running operation) ==========
+
+    @Override
+    public void start(long rows) {
+        totalRows.addAndGet(rows);
+    }
+
+    @Override
+    public void advance(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    // ========== LIFECYCLE (called by AdminJobService) ==========
+
+    void markRunning() {
+        status = Status.RUNNING;
+        message = "Running";
+    }
+
+    /**
+     * Record the operation result ("success:N" or an error message)
+     */
+    void finish(String result) {
+        if (result != null && result.startsWith("success:")) {
+            count = Integer.parseInt(result.substring(8));
+            if (cancellationRequested) {
+                status = Status.CANCELLED;
+                message = "Cancelled after " + count + " " + type.getSuccessMessage();
+            } else {
+                status = Status.COMPLETED;
+                message = count + " " + type.getSuccessMessage();
+            }
+        } else {
+            status = Status.FAILED;
+            message = result;
+        }
+        finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String errorMessage) {
+        status = Status.FAILED;
+        message = errorMessage;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void markCancelled() {
+        status = Status.CANCELLED;
+        message = "Cancelled before start";
+        finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Ask the job to stop before its next chunk
+     */
+    void requestCancellation() {
+        cancellationRequested = true;
+    }
+
+    // ========== STATUS ==========
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public long getTotalRows() {
+        return totalRows.get();
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    /**
+     * Progress in percent (0-100), based on the rows of committed chunks; held below 100
+     * until the job finishes, since rows changed meanwhile can make the counts differ
+     */
+    public int getPercentComplete() {
+        if (isFinished()) {
+            return 100;
+        }
+        long total = totalRows.get();
+        return total == 0 ? 0 : (int) Math.min(99, processedRows.get() * 100 / total);
+    }
+}
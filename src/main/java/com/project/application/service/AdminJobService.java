@@ -0,0 +1,162 @@
+package com.project.application.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs admin bulk actions as background jobs.
+
+ * Jobs run on a small dedicated, bounded executor instead of Tomcat request threads,
+ * so a system reset does not hold request threads (or more than a couple of pool
+ * connections) while normal users keep working. Each job commits in chunks and
+ * reports progress through its {@link AdminJob}, which the admin page polls.
+
+ * Only one job per {@link AdminJobType} is active at a time; submitting the same
+ * type again returns the job that is already queued or running.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminJobService {
+
+    // Finished jobs stay visible to status polling for this long
+    private static final long FINISHED_JOB_RETENTION_MINUTES = 30;
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final EventService eventService;
+    private final AdminMetricsService adminMetricsService;
+
+    @Value("${app.admin-jobs.threads:2}")
+    private int threads;
+
+    @Value("${app.admin-jobs.queue-capacity:10}")
+    private int queueCapacity;
+
+    private final Map<String, AdminJob> jobs = new ConcurrentHashMap<>();
+    private final Map<AdminJobType, AdminJob> activeJobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "admin-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        // Let running jobs stop at their next chunk boundary
+        activeJobs.values().forEach(AdminJob::requestCancellation);
+        executor.shutdown();
+    }
+
+    /**
+     * Submit a bulk action, or return the job of that type that is already active
+     */
+    public AdminJob submit(AdminJobType type) {
+        pruneFinishedJobs();
+
+        AdminJob newJob = new AdminJob(type);
+        AdminJob activeJob = activeJobs.putIfAbsent(type, newJob);
+        if (activeJob != null) {
+            return activeJob;
+        }
+
+        jobs.put(newJob.getJobId(), newJob);
+        try {
+            // The job runs as the submitting admin, so audit records name who started it
+            executor.execute(new DelegatingSecurityContextRunnable(() -> run(newJob)));
+        } catch (RejectedExecutionException e) {
+            newJob.fail("Too many admin jobs are queued, please try again shortly");
+            activeJobs.remove(type, newJob);
+        }
+        return newJob;
+    }
+
+    /**
+     * Get a job by ID (finished jobs are kept for a limited time)
+     */
+    public Optional<AdminJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Request cancellation of a job; it stops before its next chunk.
+     * Returns false if the job does not exist or has already finished.
+     */
+    public boolean cancel(String jobId) {
+        AdminJob job = jobs.get(jobId);
+        if (job == null || job.isFinished()) {
+            return false;
+        }
+        job.requestCancellation();
+        return true;
+    }
+
+    private void run(AdminJob job) {
+        try {
+            if (job.isCancellationRequested()) {
+                job.markCancelled();
+                return;
+            }
+
+            job.markRunning();
+            String result;
+            try {
+                result = operationFor(job.getType()).apply(job);
+            } finally {
+                // Before the job reports finished, so the page's metrics refresh sees the change
+                adminMetricsService.invalidateOverview();
+            }
+            job.finish(result);
+
+        } catch (Exception e) {
+            job.fail("Job failed: " + e.getMessage());
+        } finally {
+            activeJobs.remove(job.getType(), job);
+        }
+    }
+
+    /**
+     * Map each job type to the chunked service operation it runs
+     */
+    private Function<BulkProgress, String> operationFor(AdminJobType type) {
+        return switch (type) {
+            case DELETE_ALL_USERS -> userService::deleteAllNonAdminUsers;
+            case DEMOTE_ALL_MANAGERS -> userService::demoteAllManagers;
+            case DEMOTE_ALL_CHIEFS -> userService::demoteAllChiefs;
+            case RETURN_ALL_IN_USE_ITEMS -> itemService::returnAllInUseItems;
+            case MAKE_ALL_ITEMS_UNAVAILABLE -> itemService::makeAllItemsUnavailable;
+            case DELETE_ALL_ITEMS -> itemService::deleteAllItems;
+            case DEACTIVATE_ALL_EVENTS -> eventService::deactivateAllEvents;
+            case SET_ACTIVE_EVENTS_TO_RETURN -> eventService::setActiveEventsToReturn;
+            case DELETE_ALL_EVENTS -> eventService::deleteAllEvents;
+        };
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
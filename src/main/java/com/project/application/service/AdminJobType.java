@@ -0,0 +1,26 @@
+package com.project.application.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin bulk actions that run as background jobs.
+ * At most one job of each type runs at a time.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AdminJobType {
+
+    DELETE_ALL_USERS("users deleted successfully"),
+    DEMOTE_ALL_MANAGERS("managers demoted successfully"),
+    DEMOTE_ALL_CHIEFS("chiefs demoted successfully"),
+    RETURN_ALL_IN_USE_ITEMS("in-use items returned successfully"),
+    MAKE_ALL_ITEMS_UNAVAILABLE("items marked as unavailable"),
+    DELETE_ALL_ITEMS("items deleted successfully"),
+    DEACTIVATE_ALL_EVENTS("events deactivated successfully"),
+    SET_ACTIVE_EVENTS_TO_RETURN("active events set to return mode"),
+    DELETE_ALL_EVENTS("events deleted successfully");
+
+    // Shown after the processed count, e.g. "12 users deleted successfully"
+    private final String successMessage;
+}
@@ -0,0 +1,114 @@
+package com.project.application.service;
+
+import com.project.application.event.EventChanged;
+import com.project.application.event.EventStatusChanged;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemReturned;
+import com.project.application.event.ManagerAssigned;
+import com.project.application.event.ResponsibilityChanged;
+import com.project.application.event.UserChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the admin page chart data from aggregate queries.
+
+ * Each distribution is a single GROUP BY query, so the cost does not grow with the
+ * number of users, items or events. The combined overview is cached for a few
+ * seconds, because the admin page reloads it after every bulk action and the
+ * charts do not need to be exact to the second. Domain events that move a chart
+ * (item status, event status, manager roles) drop the cache right away.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminMetricsService {
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final EventService eventService;
+
+    @Value("${app.admin-metrics.cache-ttl-ms:5000}")
+    private long cacheTtlMillis;
+
+    private volatile CachedOverview cachedOverview;
+
+    private record CachedOverview(Map<String, Object> overview, long expiresAt) {
+    }
+
+    /**
+     * User role chart data: roleCounts and totalUsers
+     */
+    public Map<String, Object> getUserRoleMetrics() {
+        Map<String, Integer> counts = userService.getUserRoleDistribution();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("roleCounts", counts);
+        response.put("totalUsers", sum(counts));
+        return response;
+    }
+
+    /**
+     * Item status chart data: statusCounts and totalItems
+     */
+    public Map<String, Object> getItemStatusMetrics() {
+        Map<String, Integer> counts = itemService.getItemStatusDistribution();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("statusCounts", counts);
+        response.put("totalItems", sum(counts));
+        return response;
+    }
+
+    /**
+     * Event status chart data: statusCounts and totalEvents
+     */
+    public Map<String, Object> getEventStatusMetrics() {
+        Map<String, Integer> counts = eventService.getEventStatusDistribution();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("statusCounts", counts);
+        response.put("totalEvents", sum(counts));
+        return response;
+    }
+
+    /**
+     * All three chart data sets in one response (cached for a short time)
+     */
+    public Map<String, Object> getOverview() {
+        CachedOverview cached = cachedOverview;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.overview();
+        }
+
+        Map<String, Object> overview = Map.of(
+                "userRoles", getUserRoleMetrics(),
+                "itemStatus", getItemStatusMetrics(),
+                "eventStatus", getEventStatusMetrics());
+
+        cachedOverview = new CachedOverview(overview, now + cacheTtlMillis);
+        return overview;
+    }
+
+    /**
+     * Drop the cached overview so the next request reflects a change immediately
+     */
+    public void invalidateOverview() {
+        cachedOverview = null;
+    }
+
+    @EventListener({ItemAssigned.class, ItemReturned.class, EventChanged.class, EventStatusChanged.class,
+            ManagerAssigned.class, ResponsibilityChanged.class, UserChanged.class})
+    public void onChartDataChanged() {
+        invalidateOverview();
+    }
+
+    private int sum(Map<String, Integer> counts) {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.application.service;
+
+/**
+ * Progress and cancellation hook for chunked bulk operations.
+
+ * {@link ChunkedBulkExecutor} reports the counted target rows up front and the rows
+ * affected by each committed chunk, and checks for cancellation between chunks. Work
+ * already committed stays committed when an operation is cancelled.
+ */
+public interface BulkProgress {
+
+    // No-op progress for callers that do not track progress (synchronous calls)
+    BulkProgress NONE = new BulkProgress() {
+        @Override
+        public void start(long totalRows) {
+        }
+
+        @Override
+        public void advance(long rows) {
+        }
+
+        @Override
+        public boolean isCancellationRequested() {
+            return false;
+        }
+    };
+
+    /**
+     * Add rows to the total amount of work (counted before each chunked phase)
+     */
+    void start(long totalRows);
+
+    /**
+     * Mark rows as processed (the affected rows of each committed chunk)
+     */
+    void advance(long rows);
+
+    /**
+     * Check if the operation should stop before the next chunk
+     */
+    boolean isCancellationRequested();
+}
@@ -0,0 +1,126 @@
+package com.project.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs admin bulk statements over an id space in fixed-size id ranges.
+
+ * Each range is committed in its own short transaction, so row locks and undo
+ * are bounded by the chunk size instead of the table size, and regular
+ * request traffic can interleave between chunks.
+
+ * Callers must not wrap these methods in their own @Transactional method,
+ * otherwise every chunk joins the outer transaction and the bound is lost.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkedBulkExecutor {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Apply a range operation to [minId, maxId] in chunks, one transaction per chunk.
+     * Returns the total number of affected rows reported by the operation.
+     * Rows inserted above maxId after the bounds were read are not visited.
+     */
+    public int forEachIdRange(Long minId, Long maxId, ToIntBiFunction<Long, Long> rangeOperation) {
+        return forEachIdRange(minId, maxId, 0, rangeOperation, BulkProgress.NONE);
+    }
+
+    /**
+     * Same as forEachIdRange, reporting the affected rows of each chunk against the counted
+     * target rows, and stopping between chunks when cancellation is requested
+     */
+    public int forEachIdRange(Long minId, Long maxId, long totalRows, ToIntBiFunction<Long, Long> rangeOperation,
+                              BulkProgress progress) {
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        progress.start(totalRows);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            if (progress.isCancellationRequested()) {
+                break;
+            }
+
+            final Long chunkFrom = fromId;
+            final Long chunkTo = Math.min(fromId + chunkSize - 1, maxId);
+            Integer affected = transactionTemplate.execute(
+                    status -> rangeOperation.applyAsInt(chunkFrom, chunkTo));
+            int affectedRows = affected != null ? affected : 0;
+            total += affectedRows;
+            progress.advance(affectedRows);
+        }
+
+        return total;
+    }
+
+    /**
+     * Apply an operation to a list of ids in chunks, one transaction per chunk.
+     * Used where rows need per-entity handling instead of a single statement.
+     * Progress counts the affected rows of each chunk against the number of ids.
+     */
+    public int forEachChunk(List<Long> ids, ToIntFunction<List<Long>> chunkOperation, BulkProgress progress) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        progress.start(ids.size());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            if (progress.isCancellationRequested()) {
+                break;
+            }
+
+            final List<Long> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+            Integer affected = transactionTemplate.execute(status -> chunkOperation.applyAsInt(chunk));
+            int affectedRows = affected != null ? affected : 0;
+            total += affectedRows;
+            progress.advance(affectedRows);
+        }
+
+        return total;
+    }
+
+    /**
+     * Run a single bulk statement in its own transaction and return its row count
+     */
+    public int inTransaction(IntSupplier operation) {
+        return inTransaction(0, operation, BulkProgress.NONE);
+    }
+
+    /**
+     * Run a single bulk statement in its own transaction, reporting its affected rows
+     * against the counted target rows
+     */
+    public int inTransaction(long totalRows, IntSupplier operation, BulkProgress progress) {
+        progress.start(totalRows);
+        if (progress.isCancellationRequested()) {
+            return 0;
+        }
+
+        Integer affected = new TransactionTemplate(transactionManager).execute(status -> operation.getAsInt());
+        int affectedRows = affected != null ? affected : 0;
+        progress.advance(affectedRows);
+        return affectedRows;
+    }
+}
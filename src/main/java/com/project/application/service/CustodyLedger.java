@@ -0,0 +1,231 @@
+package com.project.application.service;
+
+import com.project.application.entity.CustodyRecord;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemForceReleased;
+import com.project.application.event.ItemReturned;
+import com.project.application.event.RequestCreated;
+import com.project.application.event.RequestDenied;
+import com.project.application.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind writer of the custody ledger (see {@link CustodyRecord}).
+
+ * Listens to the request and item domain events after their transaction committed,
+ * stamps each with the time and the acting user, and appends it to an in-memory buffer.
+ * One writer thread inserts the buffer in JDBC batches, so approving a request costs no
+ * extra insert on the request thread.
+
+ * Loss is bounded: entries wait in memory for at most one flush interval, so only those
+ * are lost if the process dies. When the buffer is full, or during shutdown, the caller
+ * writes its entry synchronously instead of dropping it. A batch that fails to insert is
+ * logged and dropped.
+
+ * Inserts never overlap: the writer and the synchronous fallback share one lock, and each
+ * insert commits before the next one starts. Ledger ids therefore become visible in id
+ * order, which the rollup watermark relies on (see UtilizationRollupJob).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustodyLedger {
+
+    // How long the writer waits for an empty buffer before checking for shutdown
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO custody_ledger " +
+            "(action, item_id, user_id, responsibility_id, request_id, request_type, actor_id, recorded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.custody-ledger.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.custody-ledger.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.custody-ledger.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    private BlockingQueue<Entry> buffer;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+    private Counter droppedCounter;
+
+    /**
+     * A ledger row waiting for the writer
+     */
+    private record Entry(String action, Long itemId, Long userId, Long responsibilityId, Long requestId,
+                         String requestType, Long actorId, LocalDateTime recordedAt) {
+    }
+
+    @PostConstruct
+    void startWriter() {
+        buffer = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize("app.custody.ledger.queue.size", Tags.empty(), buffer);
+        droppedCounter = meterRegistry.counter("app.custody.ledger.dropped");
+        // Own transaction, also when the synchronous fallback runs inside another transaction's after-commit phase
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        running = true;
+        writer = new Thread(this::runWriter, "custody-ledger-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        // The writer flushes what is already buffered before it exits
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // ========== EVENT LISTENERS (synchronous, after commit) ==========
+
+    @EventListener
+    public void onRequestCreated(RequestCreated event) {
+        // The requester is the actor; this runs on the ingestion writer thread
+        String action = "return".equals(event.requestType())
+                ? CustodyRecord.ACTION_RETURN_REQUEST : CustodyRecord.ACTION_REQUEST;
+        append(new Entry(action, event.itemId(), event.userId(), event.responsibilityId(), event.requestId(),
+                event.requestType(), event.userId(), LocalDateTime.now()));
+    }
+
+    @EventListener
+    public void onItemAssigned(ItemAssigned event) {
+        append(new Entry(CustodyRecord.ACTION_APPROVE, event.itemId(), event.userId(), event.responsibilityId(),
+                event.requestId(), "request", currentActorId(), LocalDateTime.now()));
+    }
+
+    @EventListener
+    public void onItemReturned(ItemReturned event) {
+        append(new Entry(CustodyRecord.ACTION_RETURN, event.itemId(), event.userId(), event.responsibilityId(),
+                event.requestId(), "return", currentActorId(), LocalDateTime.now()));
+    }
+
+    @EventListener
+    public void onRequestDenied(RequestDenied event) {
+        append(new Entry(CustodyRecord.ACTION_DENY, event.itemId(), event.userId(), event.responsibilityId(),
+                event.requestId(), event.requestType(), currentActorId(), LocalDateTime.now()));
+    }
+
+    @EventListener
+    public void onItemForceReleased(ItemForceReleased event) {
+        append(new Entry(CustodyRecord.ACTION_FORCED_RELEASE, event.itemId(), event.userId(),
+                event.responsibilityId(), null, null, currentActorId(), LocalDateTime.now()));
+    }
+
+    // ========== BUFFER AND WRITER ==========
+
+    private void append(Entry entry) {
+        if (!running || !buffer.offer(entry)) {
+            write(List.of(entry));
+        }
+    }
+
+    private void runWriter() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                List<Entry> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Wait for the first entry, then keep collecting until the flush interval
+     * has passed or the batch is full
+     */
+    private List<Entry> nextBatch() throws InterruptedException {
+        List<Entry> batch = new ArrayList<>();
+        Entry first = buffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize && running) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Entry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        buffer.drainTo(batch, batchSize - batch.size());
+        return batch;
+    }
+
+    /**
+     * Insert entries with one batched statement in their own transaction; serialized, so a
+     * lower ledger id is never committed after a higher one
+     */
+    private synchronized void write(List<Entry> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+                        statement.setString(1, entry.action());
+                        statement.setLong(2, entry.itemId());
+                        statement.setLong(3, entry.userId());
+                        statement.setObject(4, entry.responsibilityId(), Types.BIGINT);
+                        statement.setObject(5, entry.requestId(), Types.BIGINT);
+                        statement.setString(6, entry.requestType());
+                        statement.setObject(7, entry.actorId(), Types.BIGINT);
+                        statement.setTimestamp(8, Timestamp.valueOf(entry.recordedAt()));
+                    }));
+        } catch (Exception e) {
+            droppedCounter.increment(entries.size());
+            log.error("Custody ledger: {} entries dropped: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * The authenticated user of the thread that published the event (null for system work)
+     */
+    private Long currentActorId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
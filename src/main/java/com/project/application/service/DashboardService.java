@@ -0,0 +1,139 @@
+package com.project.application.service;
+
+import com.project.application.dto.DashboardSnapshot;
+import com.project.application.dto.EventSummary;
+import com.project.application.dto.ManagerSummary;
+import com.project.application.dto.ResponsibilitySummary;
+import com.project.application.event.EventChanged;
+import com.project.application.event.EventStatusChanged;
+import com.project.application.event.ManagerAssigned;
+import com.project.application.event.ResponsibilityChanged;
+import com.project.application.event.UserChanged;
+import com.project.application.repository.EventRepository;
+import com.project.application.repository.ResponsibilityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds and caches the dashboard read model.
+
+ * The dashboard is the landing page after login, so every user renders it at the
+ * start of a shift. Instead of one manager query per responsibility on every render,
+ * the whole page is assembled from two queries (responsibilities joined with their
+ * managers, and all events) into an immutable snapshot that all users share.
+
+ * Every change to events, responsibilities, manager assignments or user names is
+ * published as a domain event. After its commit the snapshot is dropped, and then
+ * rebuilt in the background right away, so the first user after a change does not
+ * pay for it.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final ResponsibilityRepository responsibilityRepository;
+    private final EventRepository eventRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile DashboardSnapshot snapshot;
+
+    /**
+     * Get the current dashboard snapshot, rebuilding it if it was invalidated
+     */
+    public DashboardSnapshot getSnapshot() {
+        DashboardSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    /**
+     * Drop the cached snapshot after a change committed. Ordered first, so it runs
+     * before the prewarm below is handed to the executor.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener({EventChanged.class, EventStatusChanged.class, ManagerAssigned.class,
+            ResponsibilityChanged.class, UserChanged.class})
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Rebuild the snapshot after a change on the domain event executor (the invalidation
+     * of the same commit has already run)
+     */
+    @Async
+    @EventListener({EventChanged.class, EventStatusChanged.class, ManagerAssigned.class,
+            ResponsibilityChanged.class, UserChanged.class})
+    public void prewarm() {
+        getSnapshot();
+    }
+
+    /**
+     * Build a new snapshot. Synchronized so a burst of concurrent renders after an
+     * invalidation triggers one rebuild instead of one per request.
+     */
+    private synchronized DashboardSnapshot rebuild() {
+        DashboardSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        // An invalidation that lands while loading must not be overwritten by this (older) result
+        long startGeneration = generation.get();
+
+        List<EventSummary> allEvents = loadAllEvents();
+        List<EventSummary> ongoingEvents = allEvents.stream()
+                .filter(EventSummary::isOngoing)
+                .toList();
+
+        DashboardSnapshot built = new DashboardSnapshot(loadResponsibilitiesWithManagers(), allEvents, ongoingEvents);
+        if (generation.get() == startGeneration) {
+            snapshot = built;
+        }
+        return built;
+    }
+
+    /**
+     * Group the joined responsibility/manager rows into an ordered, unmodifiable map
+     */
+    private Map<ResponsibilitySummary, List<ManagerSummary>> loadResponsibilitiesWithManagers() {
+        Map<ResponsibilitySummary, List<ManagerSummary>> grouped = new LinkedHashMap<>();
+
+        for (Object[] row : responsibilityRepository.findAllWithManagerNames()) {
+            ResponsibilitySummary responsibility =
+                    new ResponsibilitySummary((Long) row[0], (String) row[1], (String) row[2]);
+            List<ManagerSummary> managers = grouped.computeIfAbsent(responsibility, key -> new ArrayList<>());
+
+            if (row[3] != null) {
+                managers.add(new ManagerSummary((Long) row[3], (String) row[4], (String) row[5]));
+            }
+        }
+
+        Map<ResponsibilitySummary, List<ManagerSummary>> result = new LinkedHashMap<>();
+        grouped.forEach((responsibility, managers) -> result.put(responsibility, List.copyOf(managers)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Load all events, newest first
+     */
+    private List<EventSummary> loadAllEvents() {
+        return eventRepository.findAllOrderByDateDesc().stream()
+                .map(EventSummary::from)
+                .toList();
+    }
+}
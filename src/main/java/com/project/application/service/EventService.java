@@ -6,12 +6,17 @@ import com.project.application.entity.Responsibility;
 import com.project.application.repository.RequestRepository;
 import com.project.application.repository.ResponsibilityRepository;
 import com.project.application.entity.EventResponsibility;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.EventChanged;
+import com.project.application.event.EventStatusChanged;
 import com.project.application.repository.EventResponsibilityRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -23,6 +28,9 @@ public class EventService {
     private final EventResponsibilityRepository eventResponsibilityRepository;
     private final ItemService itemService;
     private final RequestRepository requestRepository;
+    private final ResponsibilityEligibilityIndex eligibilityIndex;
+    private final ChunkedBulkExecutor chunkedBulkExecutor;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * Create a new event
@@ -61,6 +69,7 @@ public class EventService {
             // Create new event
             Event event = new Event(eventName, description);
             eventRepository.save(event);
+            domainEventPublisher.publish(new EventChanged(event.getEventId()));
             return "success";
         } catch (Exception e) {
             return "Failed to create event: " + e.getMessage();
@@ -74,6 +83,42 @@ public class EventService {
         return eventRepository.findAllOrderByDateDesc();
     }
 
+    /**
+     * Get event status distribution for admin metrics (one GROUP BY query)
+     */
+    public Map<String, Integer> getEventStatusDistribution() {
+        Map<String, Integer> statusCounts = new HashMap<>();
+        statusCounts.put("notActive", 0);
+        statusCounts.put("active", 0);
+        statusCounts.put("equipmentReturn", 0);
+
+        for (Object[] row : eventRepository.countByStatusGrouped()) {
+            int count = ((Long) row[1]).intValue();
+            switch ((String) row[0]) {
+                case Event.STATUS_NOT_ACTIVE -> statusCounts.merge("notActive", count, Integer::sum);
+                case Event.STATUS_ACTIVE -> statusCounts.merge("active", count, Integer::sum);
+                case Event.STATUS_EQUIPMENT_RETURN -> statusCounts.merge("equipmentReturn", count, Integer::sum);
+                default -> { }
+            }
+        }
+
+        return statusCounts;
+    }
+
+    /**
+     * Count all events (for admin bulk operation dialogs)
+     */
+    public long countAllEvents() {
+        return eventRepository.count();
+    }
+
+    /**
+     * Count active events (for admin bulk operation dialogs)
+     */
+    public long countActiveEvents() {
+        return eventRepository.countByStatus(Event.STATUS_ACTIVE);
+    }
+
     /**
      * Get ongoing events only (active or equipment return)
      */
@@ -123,6 +168,8 @@ public class EventService {
         try {
             event.setStatus(newStatus);
             eventRepository.save(event);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventStatusChanged(eventId, event.getEventName(), event.getStatus()));
             return "success";
         } catch (Exception e) {
             return "Failed to update event status: " + e.getMessage();
@@ -182,6 +229,7 @@ public class EventService {
             event.setEventName(eventName);
             event.setDescription(description);
             eventRepository.save(event);
+            domainEventPublisher.publish(new EventChanged(eventId));
             return "success";
         } catch (Exception e) {
             return "Failed to update event: " + e.getMessage();
@@ -216,6 +264,8 @@ public class EventService {
         try {
             event.setStatus(Event.STATUS_ACTIVE);
             eventRepository.save(event);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventStatusChanged(eventId, event.getEventName(), event.getStatus()));
             return "success";
         } catch (Exception e) {
             return "Failed to activate event: " + e.getMessage();
@@ -255,6 +305,8 @@ public class EventService {
             // Switch event status to equipment return
             event.setStatus(Event.STATUS_EQUIPMENT_RETURN);
             eventRepository.save(event);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventStatusChanged(eventId, event.getEventName(), event.getStatus()));
             return "success";
         } catch (Exception e) {
             return "Failed to switch to return mode: " + e.getMessage();
@@ -283,6 +335,8 @@ public class EventService {
         try {
             event.setStatus(Event.STATUS_ACTIVE);
             eventRepository.save(event);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventStatusChanged(eventId, event.getEventName(), event.getStatus()));
             return "success";
         } catch (Exception e) {
             return "Failed to switch to active mode: " + e.getMessage();
@@ -318,6 +372,8 @@ public class EventService {
         try {
             event.setStatus(Event.STATUS_NOT_ACTIVE);
             eventRepository.save(event);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventStatusChanged(eventId, event.getEventName(), event.getStatus()));
             return "success";
         } catch (Exception e) {
             return "Failed to complete event: " + e.getMessage();
@@ -388,6 +444,7 @@ public class EventService {
 
             // Then delete the event itself
             eventRepository.delete(event);
+            domainEventPublisher.publish(new EventChanged(eventId));
             return "success";
         } catch (Exception e) {
             return "Failed to delete event: " + e.getMessage();
@@ -422,6 +479,8 @@ public class EventService {
             Responsibility responsibility = responsibilityOptional.get();
             EventResponsibility eventResponsibility = new EventResponsibility(event, responsibility);
             eventResponsibilityRepository.save(eventResponsibility);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventChanged(eventId));
             return "success";
         } catch (Exception e) {
             return "Failed to add responsibility to event: " + e.getMessage();
@@ -441,6 +500,8 @@ public class EventService {
         try {
             // Remove assignment
             eventResponsibilityRepository.deleteByEventEventIdAndResponsibilityResponsibilityId(eventId, responsibilityId);
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventChanged(eventId));
             return "success";
         } catch (Exception e) {
             return "Failed to remove responsibility from event: " + e.getMessage();
@@ -489,66 +550,27 @@ public class EventService {
 
     /**
      * Check if a specific responsibility is part of any active event (for requests)
+     * O(1) lookup in the eligibility index
      */
     public boolean isResponsibilityInActiveEvent(Long responsibilityId) {
-        List<Event> activeEvents = getEventsByStatus(Event.STATUS_ACTIVE);
-        for (Event event : activeEvents) {
-            List<Responsibility> eventResponsibilities = getEventResponsibilities(event.getEventId());
-            for (Responsibility responsibility : eventResponsibilities) {
-                if (responsibility.getResponsibilityId().equals(responsibilityId)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return eligibilityIndex.isInActiveEvent(responsibilityId);
     }
 
     /**
      * Check if a specific responsibility is part of any return-mode event (for returns)
+     * O(1) lookup in the eligibility index
      */
     public boolean isResponsibilityInReturnEvent(Long responsibilityId) {
-        List<Event> returnEvents = getEventsByStatus(Event.STATUS_EQUIPMENT_RETURN);
-        for (Event event : returnEvents) {
-            List<Responsibility> eventResponsibilities = getEventResponsibilities(event.getEventId());
-            for (Responsibility responsibility : eventResponsibilities) {
-                if (responsibility.getResponsibilityId().equals(responsibilityId)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return eligibilityIndex.isInReturnEvent(responsibilityId);
     }
 
     /**
      * Check if a specific responsibility is part of any event that allows returns
      * (active or equipment return events)
+     * O(1) lookup in the eligibility index
      */
     public boolean isResponsibilityInReturnAllowedEvent(Long responsibilityId) {
-        // Get both active and equipment return events
-        List<Event> activeEvents = getEventsByStatus(Event.STATUS_ACTIVE);
-        List<Event> returnEvents = getEventsByStatus(Event.STATUS_EQUIPMENT_RETURN);
-
-        // Check active events
-        for (Event event : activeEvents) {
-            List<Responsibility> eventResponsibilities = getEventResponsibilities(event.getEventId());
-            for (Responsibility responsibility : eventResponsibilities) {
-                if (responsibility.getResponsibilityId().equals(responsibilityId)) {
-                    return true;
-                }
-            }
-        }
-
-        // Check equipment return events
-        for (Event event : returnEvents) {
-            List<Responsibility> eventResponsibilities = getEventResponsibilities(event.getEventId());
-            for (Responsibility responsibility : eventResponsibilities) {
-                if (responsibility.getResponsibilityId().equals(responsibilityId)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return eligibilityIndex.isInReturnAllowedEvent(responsibilityId);
     }
 
     // ========== BULK OPERATIONS FOR ADMIN ==========
@@ -556,32 +578,33 @@ public class EventService {
     /**
      * Deactivate all events (change status to "Not Active")
      * ENHANCED: Also cleans up requests and in-use items for all responsibilities
+     * Runs as chunked set-based statements, so it is intentionally not @Transactional
      */
-    @Transactional
     public String deactivateAllEvents() {
-        try {
-            List<Event> allEvents = eventRepository.findAll();
+        return deactivateAllEvents(BulkProgress.NONE);
+    }
 
-            if (allEvents.isEmpty()) {
-                return "No events found in system";
+    /**
+     * Deactivate all events, reporting progress per chunk
+     */
+    public String deactivateAllEvents(BulkProgress progress) {
+        try {
+            if (eventRepository.count() == 0) {
+                return "success:0"; // no events found in system
             }
 
-            int processedCount = 0;
-
-            for (Event event : allEvents) {
-                // Only update if not already "Not Active"
-                if (!Event.STATUS_NOT_ACTIVE.equals(event.getStatus())) {
-
-                    // CLEANUP: Before deactivating, clean up all responsibilities in this event
-                    cleanupEventResponsibilities(event.getEventId());
-
-                    // Deactivate the event
-                    event.setStatus(Event.STATUS_NOT_ACTIVE);
-                    eventRepository.save(event);
-                    processedCount++;
-                }
+            // CLEANUP: Release items while the events are still ongoing (the statements select by event status)
+            itemService.releaseItemsOfOngoingEvents(progress);
+            if (progress.isCancellationRequested()) {
+                return "success:0";
             }
 
+            // Deactivate every ongoing event in one statement
+            int processedCount = chunkedBulkExecutor.inTransaction(
+                    eventRepository.countByStatusNot(Event.STATUS_NOT_ACTIVE), eventRepository::deactivateAllOngoing, progress);
+
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventChanged(null));
             return "success:" + processedCount;
 
         } catch (Exception e) {
@@ -590,61 +613,26 @@ public class EventService {
     }
 
     /**
-     * Helper method to clean up all responsibilities in an event
-     * - Deletes all requests for items in event responsibilities
-     * - Sets all "In Use" items to "Unavailable" and removes user ownership
+     * Set only active events to equipment return mode
      */
-    private void cleanupEventResponsibilities(Long eventId) {
-        try {
-            // Get all responsibilities assigned to this event
-            List<Responsibility> eventResponsibilities = getEventResponsibilities(eventId);
-
-            for (Responsibility responsibility : eventResponsibilities) {
-                Long responsibilityId = responsibility.getResponsibilityId();
-
-                // Delete all requests for this responsibility
-                requestRepository.deleteByResponsibilityId(responsibilityId);
-
-                // Get all items in this responsibility that are "In Use"
-                List<com.project.application.entity.Item> inUseItems =
-                        itemService.getItemsByResponsibilityIdAndStatus(responsibilityId, "In Use");
-
-                // Set "In Use" items to "Unavailable" and remove user ownership
-                for (com.project.application.entity.Item item : inUseItems) {
-                    item.setStatus("Unavailable");
-                    item.setUser(null);
-                    itemService.saveItem(item);
-                }
-            }
-
-        } catch (Exception e) {
-            // Log error but don't fail the main operation
-            System.err.println("Warning: Could not fully cleanup event responsibilities for event " + eventId + ": " + e.getMessage());
-        }
+    public String setActiveEventsToReturn() {
+        return setActiveEventsToReturn(BulkProgress.NONE);
     }
 
     /**
-     * Set only active events to equipment return mode
+     * Set only active events to equipment return mode (single statement, one progress step)
      */
-    @Transactional
-    public String setActiveEventsToReturn() {
+    public String setActiveEventsToReturn(BulkProgress progress) {
         try {
-            List<Event> activeEvents = eventRepository.findAll().stream()
-                    .filter(event -> Event.STATUS_ACTIVE.equals(event.getStatus()))
-                    .collect(java.util.stream.Collectors.toList());
+            int processedCount = chunkedBulkExecutor.inTransaction(
+                    eventRepository.countByStatus(Event.STATUS_ACTIVE), eventRepository::switchAllActiveToReturn, progress);
 
-            if (activeEvents.isEmpty()) {
-                return "No active events found";
-            }
-
-            int processedCount = 0;
-
-            for (Event event : activeEvents) {
-                event.setStatus(Event.STATUS_EQUIPMENT_RETURN);
-                eventRepository.save(event);
-                processedCount++;
+            if (processedCount == 0) {
+                return "success:0"; // no active events found
             }
 
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventChanged(null));
             return "success:" + processedCount;
 
         } catch (Exception e) {
@@ -655,24 +643,31 @@ public class EventService {
     /**
      * Delete all events from the system (complete cleanup)
      */
-    @Transactional
     public String deleteAllEvents() {
-        try {
-            List<Event> allEvents = eventRepository.findAll();
+        return deleteAllEvents(BulkProgress.NONE);
+    }
 
-            if (allEvents.isEmpty()) {
-                return "No events found to delete";
+    /**
+     * Delete all events from the system in one transaction (one progress step)
+     */
+    public String deleteAllEvents(BulkProgress progress) {
+        try {
+            long eventTotal = eventRepository.count();
+            if (eventTotal == 0) {
+                return "success:0"; // no events found to delete
             }
 
-            int eventCount = allEvents.size();
+            int eventCount = chunkedBulkExecutor.inTransaction(eventTotal, () -> {
+                int count = (int) eventRepository.count();
 
-            // CRITICAL: Delete event-responsibility relationships first to avoid foreign key constraints
-            for (Event event : allEvents) {
-                eventResponsibilityRepository.deleteByEventEventId(event.getEventId());
-            }
+                // CRITICAL: Delete event-responsibility relationships first to avoid foreign key constraints
+                eventResponsibilityRepository.deleteAllInBatch();
+                eventRepository.deleteAllInBatch();
+                return count;
+            }, progress);
 
-            // Now delete all events safely
-            eventRepository.deleteAll();
+            eligibilityIndex.invalidate();
+            domainEventPublisher.publish(new EventChanged(null));
 
             return "success:" + eventCount;
 
@@ -680,4 +675,4 @@ public class EventService {
             return "Failed to delete all events: " + e.getMessage();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.project.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.application.dto.ExportRow;
+import com.project.application.dto.ItemExportRow;
+import com.project.application.dto.RequestExportRow;
+import com.project.application.dto.UserExportRow;
+import com.project.application.repository.ItemRepository;
+import com.project.application.repository.RequestRepository;
+import com.project.application.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams admin exports (items, pending requests, users) as CSV or NDJSON.
+
+ * Rows come from DTO projection queries that join the related names in SQL and are
+ * fetched row by row from MySQL, and each row is written to the response as soon as
+ * it is read. Nothing is collected in memory and no entities enter the persistence
+ * context, so heap use stays flat regardless of the export size.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportItems(Format format, OutputStream out) {
+        export(itemRepository::streamAllForExport, ItemExportRow.CSV_HEADER, format, out);
+    }
+
+    public void exportPendingRequests(Format format, OutputStream out) {
+        export(requestRepository::streamAllForExport, RequestExportRow.CSV_HEADER, format, out);
+    }
+
+    public void exportUsers(Format format, OutputStream out) {
+        export(userRepository::streamAllForExport, UserExportRow.CSV_HEADER, format, out);
+    }
+
+    /**
+     * Write every row of a streamed query. The stream needs an open transaction
+     * (and its connection) for as long as rows are being read.
+     */
+    private <T extends ExportRow> void export(Supplier<Stream<T>> query, List<String> csvHeader,
+                                              Format format, OutputStream out) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> rows = query.get()) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, csvHeader.toArray());
+                }
+
+                rows.forEach(row -> {
+                    try {
+                        if (format == Format.CSV) {
+                            writeCsvLine(writer, row.csvValues());
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a cell if it contains a delimiter, quote or line break.
+     * Cells starting with a formula character are prefixed with ' so spreadsheets show them as text.
+     */
+    private String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
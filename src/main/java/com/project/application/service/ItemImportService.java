@@ -0,0 +1,244 @@
+package com.project.application.service;
+
+import com.project.application.dto.ItemImportResult;
+import com.project.application.entity.Item;
+import com.project.application.entity.Responsibility;
+import com.project.application.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Imports items into a responsibility from a CSV or TSV stream.
+
+ * The input is read line by line, so memory use depends on the batch size and not
+ * on the file size. Each row is "itemName[,status]" (tab separated for TSV); status
+ * is Available or Unavailable and defaults to Available. An optional header row is
+ * skipped. Names are checked against one preloaded set of the responsibility's item
+ * names (a snapshot taken when the import starts) instead of one query per row, and
+ * valid rows are saved in batches, each in its own transaction. Invalid rows are
+ * reported and do not stop the import. A batch that fails to save is retried row by
+ * row, so only the failing rows are rejected and the result always counts what was
+ * committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemImportService {
+
+    private static final Pattern ITEM_NAME = Pattern.compile(ItemService.ITEM_NAME_PATTERN);
+    private static final Set<String> HEADER_NAMES = Set.of("item name", "itemname", "item_name", "name");
+
+    // Rejected rows listed in the report (all of them are counted)
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ItemRepository itemRepository;
+    private final ResponsibilityService responsibilityService;
+    private final ChunkedBulkExecutor chunkedBulkExecutor;
+
+    @Value("${app.item-import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * A validated row waiting for its batch; the entity is built at save time, so a
+     * failed batch can be retried with fresh entities
+     */
+    private record PendingItem(int lineNumber, String itemName, String status) {
+
+        Item toItem(Responsibility responsibility) {
+            return new Item(itemName, status, responsibility);
+        }
+    }
+
+    /**
+     * Rejected rows: all are counted, the first MAX_REPORTED_ERRORS are listed
+     */
+    private static class RejectedRows {
+
+        private final List<ItemImportResult.RowError> errors = new ArrayList<>();
+        private int count;
+
+        void add(int lineNumber, String itemName, String message) {
+            count++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemImportResult.RowError(lineNumber, itemName, message));
+            }
+        }
+    }
+
+    /**
+     * Import items from a CSV/TSV stream into a responsibility.
+     * Throws IllegalArgumentException if the responsibility does not exist.
+     */
+    public ItemImportResult importItems(Long responsibilityId, InputStream input) throws IOException {
+        Responsibility responsibility = responsibilityService.findById(responsibilityId)
+                .orElseThrow(() -> new IllegalArgumentException("Responsibility not found"));
+
+        // Item names are compared case-insensitively, like the database collation does
+        Set<String> knownNames = new HashSet<>();
+        itemRepository.findItemNamesByResponsibilityId(responsibilityId)
+                .forEach(name -> knownNames.add(name.toLowerCase(Locale.ROOT)));
+
+        RejectedRows rejected = new RejectedRows();
+        List<PendingItem> batch = new ArrayList<>(batchSize);
+        int importedCount = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // Drop a UTF-8 byte order mark (Excel exports)
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> cells = splitRow(line, line.indexOf('\t') >= 0 ? '\t' : ',');
+                String itemName = cells.get(0).trim();
+                String status = cells.size() > 1 ? cells.get(1).trim() : "";
+
+                if (lineNumber == 1 && HEADER_NAMES.contains(itemName.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+
+                String error = validateRow(itemName, status, knownNames);
+                if (error != null) {
+                    rejected.add(lineNumber, itemName, error);
+                    continue;
+                }
+
+                knownNames.add(itemName.toLowerCase(Locale.ROOT));
+                batch.add(new PendingItem(lineNumber, itemName, normalizeStatus(status)));
+
+                if (batch.size() >= batchSize) {
+                    importedCount += saveBatch(batch, responsibility, rejected);
+                }
+            }
+        }
+
+        importedCount += saveBatch(batch, responsibility, rejected);
+        return new ItemImportResult(importedCount, rejected.count, List.copyOf(rejected.errors),
+                rejected.count > rejected.errors.size());
+    }
+
+    /**
+     * Check a row, returning an error message or null if it can be imported
+     */
+    private String validateRow(String itemName, String status, Set<String> knownNames) {
+        if (itemName.isEmpty()) {
+            return "Item name cannot be empty";
+        }
+        if (!ITEM_NAME.matcher(itemName).matches()) {
+            return "Item name must contain only letters, numbers, spaces, and symbols (-.#()), max 32 characters";
+        }
+        if (!status.isEmpty() && normalizeStatus(status) == null) {
+            return "Status must be Available or Unavailable";
+        }
+        if (knownNames.contains(itemName.toLowerCase(Locale.ROOT))) {
+            return "Item name already exists in this responsibility";
+        }
+        return null;
+    }
+
+    private String normalizeStatus(String status) {
+        if (status.isEmpty() || "available".equalsIgnoreCase(status)) {
+            return "Available";
+        }
+        if ("unavailable".equalsIgnoreCase(status)) {
+            return "Unavailable";
+        }
+        return null;
+    }
+
+    /**
+     * Save and clear a batch in its own transaction, returning the number of saved items.
+     * If the batch fails (e.g. the responsibility was deleted meanwhile, or a database error)
+     * it was rolled back, and its rows are saved one by one so only the failing rows are rejected.
+     * Duplicate names are only caught by the preloaded name set: items has no unique
+     * (responsibility, name) constraint, so an item of the same name added concurrently
+     * (add-item or a second import) is not detected here.
+     */
+    private int saveBatch(List<PendingItem> batch, Responsibility responsibility, RejectedRows rejected) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int saved;
+        try {
+            saved = chunkedBulkExecutor.inTransaction(() -> itemRepository.saveAll(
+                    batch.stream().map(pending -> pending.toItem(responsibility)).toList()).size());
+        } catch (RuntimeException e) {
+            saved = 0;
+            for (PendingItem pending : batch) {
+                try {
+                    chunkedBulkExecutor.inTransaction(() -> {
+                        itemRepository.save(pending.toItem(responsibility));
+                        return 1;
+                    });
+                    saved++;
+                } catch (RuntimeException rowError) {
+                    rejected.add(pending.lineNumber(), pending.itemName(), "Could not be saved: " + failureMessage(rowError));
+                }
+            }
+        }
+
+        batch.clear();
+        return saved;
+    }
+
+    private String failureMessage(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException violation) {
+            return violation.getMostSpecificCause().getMessage();
+        }
+        return e.getMessage();
+    }
+
+    /**
+     * Split one CSV/TSV line, honouring double quotes ("" is an escaped quote)
+     */
+    private static List<String> splitRow(String line, char delimiter) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                cells.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        cells.add(current.toString());
+        return cells;
+    }
+}
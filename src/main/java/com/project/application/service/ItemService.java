@@ -1,10 +1,18 @@
 package com.project.application.service;
 
+import com.project.application.dto.AdminItemRow;
+import com.project.application.dto.ItemAvailability;
+import com.project.application.dto.ItemRequestStatus;
+import com.project.application.dto.KeysetPage;
 import com.project.application.entity.Item;
 import com.project.application.entity.Responsibility;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.ItemForceReleased;
 import com.project.application.repository.ItemRepository;
 import com.project.application.repository.RequestRepository;
+import com.project.application.util.SearchPatterns;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,16 +20,27 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.ToIntBiFunction;
 
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
-    private static final String ITEM_NAME_PATTERN = "^[A-Za-z0-9 .#()-]{1,32}$";
+    // Package-private: also used by ItemImportService
+    static final String ITEM_NAME_PATTERN = "^[A-Za-z0-9 .#()-]{1,32}$";
+
+    // Upper bound for one page of the admin item list
+    private static final int MAX_ADMIN_PAGE_SIZE = 200;
+
+    // Starting point when summarizing an item's pending requests
+    private static final ItemRequestStatus NO_REQUESTS = new ItemRequestStatus(false, false, 0);
 
     private final ItemRepository itemRepository;
     private final ResponsibilityService responsibilityService;
     private final RequestRepository requestRepository;
+    private final ChunkedBulkExecutor chunkedBulkExecutor;
+    private final LiveAvailabilityFeed liveAvailabilityFeed;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * Get all items for a specific responsibility
@@ -121,6 +140,7 @@ public class ItemService {
             item.setItemName(itemName);
             item.setStatus(status);
             itemRepository.save(item);
+            liveAvailabilityFeed.itemsChanged(List.of(itemId));
 
             return "success";
 
@@ -130,7 +150,7 @@ public class ItemService {
     }
 
     /**
-     * Delete an item
+     * Delete an item; if someone holds it, the release is published as ItemForceReleased
      */
     @Transactional
     public String deleteItem(Long itemId) {
@@ -140,6 +160,10 @@ public class ItemService {
                 return "Item not found";
             }
 
+            Item item = itemOptional.get();
+            if (item.getUserId() != null) {
+                domainEventPublisher.publish(new ItemForceReleased(itemId, item.getUserId(), item.getResponsibilityId()));
+            }
             itemRepository.deleteById(itemId);
             return "success";
 
@@ -174,6 +198,7 @@ public class ItemService {
      */
     @Transactional
     public void deleteAllItemsByResponsibilityId(Long responsibilityId) {
+        publishForcedReleases(itemRepository.findOwnedByResponsibilityId(responsibilityId));
         itemRepository.deleteByResponsibility_ResponsibilityId(responsibilityId);
     }
 
@@ -237,35 +262,22 @@ public class ItemService {
     }
 
     /**
-     * Check if an item has pending requests and return appropriate message
+     * Get the pending request status of every item in a responsibility that has requests (one GROUP BY query)
+     * Items without pending requests are not in the map
      */
-    public String getItemRequestStatus(Long itemId, List<com.project.application.entity.Request> allRequests) {
-        if (allRequests == null || allRequests.isEmpty()) {
-            return null; // No requests
-        }
+    public Map<Long, ItemRequestStatus> getItemRequestStatuses(Long responsibilityId) {
+        Map<Long, ItemRequestStatus> statuses = new HashMap<>();
 
-        // Check if this item has any pending requests
-        boolean hasRequestRequests = false;
-        boolean hasReturnRequests = false;
-
-        for (com.project.application.entity.Request request : allRequests) {
-            if (request.getItemId().equals(itemId)) {
-                if ("request".equals(request.getRequestType())) {
-                    hasRequestRequests = true;
-                } else if ("return".equals(request.getRequestType())) {
-                    hasReturnRequests = true;
-                }
-            }
-        }
+        for (Object[] row : requestRepository.countByItemAndTypeForResponsibility(responsibilityId)) {
+            Long itemId = (Long) row[0];
+            String requestType = (String) row[1];
+            long typeCount = (Long) row[2];
 
-        // Return appropriate message
-        if (hasReturnRequests) {
-            return "Return pending";
-        } else if (hasRequestRequests) {
-            return "Item being requested";
+            statuses.merge(itemId, NO_REQUESTS.with(requestType, typeCount),
+                    (current, added) -> current.with(requestType, typeCount));
         }
 
-        return null; // No requests for this item
+        return statuses;
     }
 
     /**
@@ -276,72 +288,85 @@ public class ItemService {
     }
 
     /**
-     * Get item status distribution for admin metrics
+     * Get item status distribution for admin metrics (one GROUP BY query)
+     * An item assigned to a user counts as in use, otherwise its status field decides
      */
     public Map<String, Integer> getItemStatusDistribution() {
-        List<Item> allItems = getAllItems();
-
         Map<String, Integer> statusCounts = new HashMap<>();
         statusCounts.put("available", 0);
         statusCounts.put("inUse", 0);
         statusCounts.put("unavailable", 0);
 
-        for (Item item : allItems) {
-            String itemStatus = determineItemStatus(item);
-            statusCounts.put(itemStatus, statusCounts.get(itemStatus) + 1);
+        for (Object[] row : itemRepository.countByStatusWithOwned()) {
+            String status = (String) row[0];
+            int total = ((Long) row[1]).intValue();
+            int owned = ((Long) row[2]).intValue();
+
+            statusCounts.merge("inUse", owned, Integer::sum);
+            String unownedStatus = "available".equalsIgnoreCase(status) ? "available" : "unavailable";
+            statusCounts.merge(unownedStatus, total - owned, Integer::sum);
         }
 
         return statusCounts;
     }
 
     /**
-     * Determine item status based on ownership and status field
+     * Count all items (for admin bulk operation dialogs)
      */
-    private String determineItemStatus(Item item) {
-        // If item is assigned to a user, it's in use
-        if (item.getUser() != null) {
-            return "inUse";
-        }
+    public long countAllItems() {
+        return itemRepository.count();
+    }
+
+    /**
+     * Count in-use items that have an owner (for admin bulk operation dialogs)
+     */
+    public long countInUseItems() {
+        return itemRepository.countByStatusAndUserIsNotNull("In Use");
+    }
 
-        // If not assigned to user, check the status field
-        String status = item.getStatus();
-        if (status != null && status.toLowerCase().equals("available")) {
-            return "available";
-        } else {
-            return "unavailable";
+    /**
+     * Get one page of the admin item list, ordered by item name and id.
+     * status is Available, In Use, Unavailable or null for all; search matches the start of the item name.
+     * Pass the key of the last row of the previous page (both null for the first page).
+     */
+    public KeysetPage<AdminItemRow> getAdminItemPage(String status, String search, String afterItemName,
+                                                    Long afterItemId, int limit) {
+        if (afterItemId == null || afterItemName == null) {
+            afterItemName = null;
+            afterItemId = null;
         }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_ADMIN_PAGE_SIZE));
+        List<AdminItemRow> rows = itemRepository.findItemPage(status, SearchPatterns.prefix(search),
+                afterItemName, afterItemId, Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize);
     }
 
     // ========== BULK OPERATIONS FOR ADMIN ==========
+    // Set-based statements run in item id chunks (see ChunkedBulkExecutor); not @Transactional on purpose.
+    // Owners are read in the chunk's transaction before a release, so each release is published as ItemForceReleased.
 
     /**
      * Return all in-use items to unavailable status and remove user ownership
      */
-    @Transactional
     public String returnAllInUseItems() {
-        try {
-            // Get all items that are currently in use (have users assigned)
-            List<Item> inUseItems = itemRepository.findAll().stream()
-                    .filter(item -> "In Use".equals(item.getStatus()) && item.getUser() != null)
-                    .collect(java.util.stream.Collectors.toList());
-
-            if (inUseItems.isEmpty()) {
-                return "No items are currently in use";
-            }
-
-            int processedCount = 0;
-
-            for (Item item : inUseItems) {
-                // Remove user ownership and set to unavailable
-                item.setUser(null);
-                item.setStatus("Unavailable");
-                itemRepository.save(item);
-
-                // Delete all requests for this item
-                deleteRequestsForItem(item.getItemId());
+        return returnAllInUseItems(BulkProgress.NONE);
+    }
 
-                processedCount++;
-            }
+    /**
+     * Return all in-use items to unavailable status and remove user ownership, reporting progress per chunk
+     */
+    public String returnAllInUseItems(BulkProgress progress) {
+        try {
+            long inUseCount = itemRepository.countByStatusAndUserIsNotNull("In Use");
+            int processedCount = forEachItemIdRange(inUseCount, (fromId, toId) -> {
+                // Delete requests first, while the items still match the in-use condition
+                requestRepository.deleteForInUseItemsInRange(fromId, toId);
+                publishForcedReleases(itemRepository.findOwnedInRange(fromId, toId).stream()
+                        .filter(item -> "In Use".equals(item.status()))
+                        .toList());
+                return itemRepository.releaseInUseItemsInRange(fromId, toId);
+            }, progress);
 
             return "success:" + processedCount;
 
@@ -351,33 +376,29 @@ public class ItemService {
     }
 
     /**
-     * Make all items unavailable (change status only, keep user ownership if exists)
+     * Make all items unavailable (also removes user ownership and pending requests)
      */
-    @Transactional
     public String makeAllItemsUnavailable() {
-        try {
-            List<Item> allItems = itemRepository.findAll();
+        return makeAllItemsUnavailable(BulkProgress.NONE);
+    }
 
-            if (allItems.isEmpty()) {
-                return "No items found in system";
+    /**
+     * Make all items unavailable (also removes user ownership and pending requests), reporting progress per chunk
+     */
+    public String makeAllItemsUnavailable(BulkProgress progress) {
+        try {
+            if (itemRepository.findMaxItemId() == null) {
+                return "success:0"; // no items found in system
             }
 
-            int processedCount = 0;
-
-            for (Item item : allItems) {
-                // Only update if not already unavailable
-                if (!"Unavailable".equals(item.getStatus())) {
-                    // Remove user ownership for consistency
-                    item.setUser(null);
-                    item.setStatus("Unavailable");
-                    itemRepository.save(item);
-
-                    // Delete all requests for this item
-                    deleteRequestsForItem(item.getItemId());
-
-                    processedCount++;
-                }
-            }
+            long notUnavailableCount = itemRepository.countByStatusNot("Unavailable");
+            int processedCount = forEachItemIdRange(notUnavailableCount, (fromId, toId) -> {
+                requestRepository.deleteForNotUnavailableItemsInRange(fromId, toId);
+                publishForcedReleases(itemRepository.findOwnedInRange(fromId, toId).stream()
+                        .filter(item -> !"Unavailable".equals(item.status()))
+                        .toList());
+                return itemRepository.makeUnavailableInRange(fromId, toId);
+            }, progress);
 
             return "success:" + processedCount;
 
@@ -389,24 +410,25 @@ public class ItemService {
     /**
      * Delete all items from the system (complete cleanup)
      */
-    @Transactional
     public String deleteAllItems() {
-        try {
-            List<Item> allItems = itemRepository.findAll();
-
-            if (allItems.isEmpty()) {
-                return "No items found to delete";
-            }
-
-            int itemCount = allItems.size();
+        return deleteAllItems(BulkProgress.NONE);
+    }
 
-            // Delete all requests for all items first
-            for (Item item : allItems) {
-                deleteRequestsForItem(item.getItemId());
+    /**
+     * Delete all items from the system (complete cleanup), reporting progress per chunk
+     */
+    public String deleteAllItems(BulkProgress progress) {
+        try {
+            if (itemRepository.findMaxItemId() == null) {
+                return "success:0"; // no items found to delete
             }
 
-            // Delete all items
-            itemRepository.deleteAll();
+            int itemCount = forEachItemIdRange(itemRepository.count(), (fromId, toId) -> {
+                // Delete requests first to avoid foreign key violations
+                requestRepository.deleteForItemsInRange(fromId, toId);
+                publishForcedReleases(itemRepository.findOwnedInRange(fromId, toId));
+                return itemRepository.deleteInRange(fromId, toId);
+            }, progress);
 
             return "success:" + itemCount;
 
@@ -416,13 +438,32 @@ public class ItemService {
     }
 
     /**
-     * Helper method to delete all requests for a specific item
+     * Release in-use items of responsibilities that take part in ongoing events
+     * and delete all requests for their items. Used before deactivating all events.
+     * Returns the number of released items.
      */
-    private void deleteRequestsForItem(Long itemId) {
-        try {
-            requestRepository.deleteByItem_ItemId(itemId);
-        } catch (Exception e) {
-            System.err.println("Warning: Could not delete requests for item " + itemId + ": " + e.getMessage());
-        }
+    public int releaseItemsOfOngoingEvents(BulkProgress progress) {
+        return forEachItemIdRange(itemRepository.countInUseOfOngoingEvents(), (fromId, toId) -> {
+            requestRepository.deleteForItemsOfOngoingEventsInRange(fromId, toId);
+            publishForcedReleases(itemRepository.findOwnedOfOngoingEventsInRange(fromId, toId));
+            return itemRepository.releaseInUseItemsOfOngoingEventsInRange(fromId, toId);
+        }, progress);
+    }
+
+    /**
+     * Publish the owners an admin action is about to take items from (delivered after the chunk commits)
+     */
+    private void publishForcedReleases(List<ItemAvailability> ownedItems) {
+        ownedItems.forEach(item -> domainEventPublisher.publish(
+                new ItemForceReleased(item.itemId(), item.ownerId(), item.responsibilityId())));
+    }
+
+    /**
+     * Helper method to run a range operation over all item ids in chunks; totalRows is the
+     * counted number of items the operation will affect (the progress total)
+     */
+    private int forEachItemIdRange(long totalRows, ToIntBiFunction<Long, Long> rangeOperation, BulkProgress progress) {
+        return chunkedBulkExecutor.forEachIdRange(
+                itemRepository.findMinItemId(), itemRepository.findMaxItemId(), totalRows, rangeOperation, progress);
     }
-}
\ No newline at end of file
+}
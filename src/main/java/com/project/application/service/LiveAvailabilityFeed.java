@@ -0,0 +1,145 @@
+package com.project.application.service;
+
+import com.project.application.dto.EventStatusUpdate;
+import com.project.application.event.EventStatusChanged;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemForceReleased;
+import com.project.application.event.ItemReturned;
+import com.project.application.repository.EventResponsibilityRepository;
+import com.project.application.repository.ItemRepository;
+import com.project.application.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes item availability and event status changes to users viewing responsibility pages.
+
+ * Channels:
+ * - "items:{responsibilityId}", event item-changed: the item's ItemSummary (status and owner)
+ * - "events" (global), event event-status-changed: an EventStatusUpdate
+ * A page subscribes to its responsibility's channel and the global one over one stream.
+
+ * Item and event status changes arrive as domain events (and from direct item edits).
+ * Payloads are read after commit on the hub's loader thread, and only when someone is listening.
+ * Changed item ids are coalesced until the loader thread picks them up, so a burst of
+ * approvals is read back with one query instead of one per item.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveAvailabilityFeed {
+
+    private static final String ITEMS_CHANNEL_PREFIX = "items:";
+    private static final String EVENTS_CHANNEL = "events";
+
+    private final LiveUpdateHub liveUpdateHub;
+    private final ItemRepository itemRepository;
+    private final EventResponsibilityRepository eventResponsibilityRepository;
+    private final ResponsibilityEligibilityIndex eligibilityIndex;
+
+    private final Set<Long> pendingItemIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /**
+     * Subscribe to the items of a responsibility and to event status changes
+     */
+    public SseEmitter subscribe(Long responsibilityId) {
+        return liveUpdateHub.subscribe(ITEMS_CHANNEL_PREFIX + responsibilityId, EVENTS_CHANNEL);
+    }
+
+    @EventListener
+    public void onItemAssigned(ItemAssigned event) {
+        itemsChanged(List.of(event.itemId()));
+    }
+
+    @EventListener
+    public void onItemReturned(ItemReturned event) {
+        itemsChanged(List.of(event.itemId()));
+    }
+
+    @EventListener
+    public void onItemForceReleased(ItemForceReleased event) {
+        itemsChanged(List.of(event.itemId()));
+    }
+
+    @EventListener
+    public void onEventStatusChanged(EventStatusChanged event) {
+        eventStatusChanged(event.eventId(), event.eventName(), event.status());
+    }
+
+    /**
+     * Push the new status and owner of the given items once the current transaction commits
+     */
+    public void itemsChanged(Collection<Long> itemIds) {
+        if (itemIds.isEmpty() || !liveUpdateHub.hasSubscribers(ITEMS_CHANNEL_PREFIX)) {
+            return;
+        }
+
+        List<Long> ids = List.copyOf(itemIds);
+        TransactionCallbacks.afterCommit(() -> {
+            pendingItemIds.addAll(ids);
+            if (drainScheduled.compareAndSet(false, true) && !liveUpdateHub.runInBackground(this::drainPendingItems)) {
+                drainScheduled.set(false);
+            }
+        });
+    }
+
+    /**
+     * Read back every item changed since the last drain and push it (runs on the loader thread)
+     */
+    private void drainPendingItems() {
+        drainScheduled.set(false);
+        List<Long> ids = new ArrayList<>();
+        Iterator<Long> iterator = pendingItemIds.iterator();
+        while (iterator.hasNext()) {
+            ids.add(iterator.next());
+            iterator.remove();
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            itemRepository.findSummariesByIds(ids).forEach(item ->
+                    liveUpdateHub.publish(ITEMS_CHANNEL_PREFIX + item.responsibilityId(), "item-changed", item));
+        } catch (Exception e) {
+            // Best effort like every delta; the pages show the items on reload
+            log.warn("Live availability feed could not load {} changed items: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Push an event status change with the new request/return eligibility of its responsibilities,
+     * once the current transaction commits
+     */
+    public void eventStatusChanged(Long eventId, String eventName, String status) {
+        if (!liveUpdateHub.hasSubscribers(EVENTS_CHANNEL)) {
+            return;
+        }
+
+        // The same commit invalidated the index, so wait for its rebuild before reading eligibility
+        liveUpdateHub.runAfterCommit(() -> eligibilityIndex.runWhenCurrent(() -> {
+            Map<Long, EventStatusUpdate.Eligibility> responsibilities = new HashMap<>();
+            for (Long responsibilityId : eventResponsibilityRepository.findResponsibilityIdsByEventId(eventId)) {
+                responsibilities.put(responsibilityId, new EventStatusUpdate.Eligibility(
+                        eligibilityIndex.isInActiveEvent(responsibilityId),
+                        eligibilityIndex.isInReturnAllowedEvent(responsibilityId)));
+            }
+            liveUpdateHub.publish(EVENTS_CHANNEL, "event-status-changed",
+                    new EventStatusUpdate(eventId, eventName, status, responsibilities));
+        }));
+    }
+}
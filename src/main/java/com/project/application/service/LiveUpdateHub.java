@@ -0,0 +1,252 @@
+package com.project.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.application.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events channels for live page updates.
+
+ * Each subscriber is an SseEmitter, which runs on async servlet support, so an open
+ * connection does not hold a Tomcat thread or a pool connection. A change is
+ * serialized to JSON once and queued for every subscriber of its channel, so the
+ * committing request never waits on clients.
+
+ * Slow clients are isolated: each subscriber has its own bounded queue, drained by at
+ * most one thread of a small sender pool at a time. A stalled socket blocks only its
+ * own sender thread; once its queue is full the subscriber is dropped, and so is any
+ * subscriber that fails a write. Browsers reconnect on their own.
+
+ * Payloads that are read back from the database run on a separate loader thread
+ * ({@link #runInBackground}, {@link #runAfterCommit}), never on the sender threads.
+ * Deltas are best effort: if the loader queue is full the task is dropped, and a page
+ * reload always shows the committed state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateHub {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.live-updates.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${app.live-updates.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${app.live-updates.subscriber-queue-capacity:100}")
+    private int subscriberQueueCapacity;
+
+    @Value("${app.live-updates.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor loader;
+    private ThreadPoolExecutor senders;
+    private Counter droppedCounter;
+    private Counter droppedSubscribersCounter;
+
+    /**
+     * A serialized event waiting to be written to one subscriber
+     */
+    private record Frame(String eventName, String data) {
+    }
+
+    /**
+     * One SSE connection with its own queue of frames
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> frames = new ArrayBlockingQueue<>(subscriberQueueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final List<Set<Subscriber>> joined = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void remove() {
+            joined.forEach(subscribers -> subscribers.remove(this));
+        }
+    }
+
+    @PostConstruct
+    void startSender() {
+        loader = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreads("live-update-loader"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // At most one task per subscriber is queued, so the subscriber count bounds this queue
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                daemonThreads("live-update-sender"));
+
+        meterRegistry.gauge("app.live.updates.queue.size", loader, executor -> executor.getQueue().size());
+        meterRegistry.gauge("app.live.updates.subscriptions", channels,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+        droppedCounter = meterRegistry.counter("app.live.updates.dropped");
+        droppedSubscribersCounter = meterRegistry.counter("app.live.updates.subscribers.dropped");
+    }
+
+    @PreDestroy
+    void stopSender() {
+        loader.shutdown();
+        senders.shutdownNow();
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Open one subscription to one or more channels; the emitter is removed when it
+     * completes, times out or fails
+     */
+    public SseEmitter subscribe(String... channelNames) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        for (String channel : channelNames) {
+            Set<Subscriber> subscribers = channels.computeIfAbsent(channel, key -> new CopyOnWriteArraySet<>());
+            subscribers.add(subscriber);
+            subscriber.joined.add(subscribers);
+        }
+
+        subscriber.emitter.onCompletion(subscriber::remove);
+        subscriber.emitter.onTimeout(subscriber::remove);
+        subscriber.emitter.onError(error -> subscriber.remove());
+        return subscriber.emitter;
+    }
+
+    /**
+     * Whether any channel starting with the prefix has subscribers (lets publishers skip building payloads)
+     */
+    public boolean hasSubscribers(String channelPrefix) {
+        return channels.entrySet().stream()
+                .anyMatch(entry -> entry.getKey().startsWith(channelPrefix) && !entry.getValue().isEmpty());
+    }
+
+    /**
+     * Publish after the current transaction commits (immediately if there is none)
+     */
+    public void publishAfterCommit(String channel, String eventName, Object payload) {
+        TransactionCallbacks.afterCommit(() -> publish(channel, eventName, payload));
+    }
+
+    /**
+     * Run a task on the loader thread after the current transaction commits; for payloads
+     * that are read back from the database once the change is visible
+     */
+    public void runAfterCommit(Runnable task) {
+        TransactionCallbacks.afterCommit(() -> runInBackground(task));
+    }
+
+    /**
+     * Run a task on the loader thread now; false if the loader queue is full
+     */
+    public boolean runInBackground(Runnable task) {
+        try {
+            loader.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("Live update dropped, loader queue is full");
+            return false;
+        }
+    }
+
+    /**
+     * Serialize the payload once and queue it for every subscriber of the channel
+     */
+    public void publish(String channel, String eventName, Object payload) {
+        Set<Subscriber> subscribers = channels.get(channel);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Live update not serializable: {}", e.getMessage());
+            return;
+        }
+
+        Frame frame = new Frame(eventName, data);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.frames.offer(frame)) {
+                // The client stopped reading; let the browser reconnect and reload instead
+                droppedSubscribersCounter.increment();
+                log.warn("Live update subscriber dropped, its queue is full");
+                subscriber.remove();
+                subscriber.emitter.completeWithError(new IOException("Subscriber queue full"));
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Write the subscriber's queued frames in order; runs on one sender thread at a time
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            Frame frame;
+            while ((frame = subscriber.frames.poll()) != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(frame.eventName()).data(frame.data()));
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.remove();
+                    subscriber.frames.clear();
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+            subscriber.draining.set(false);
+            // A frame queued after the last poll but before the flag was cleared is drained here
+        } while (!subscriber.frames.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.application.service;
+
+import com.project.application.dto.PendingRequestRow;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemReturned;
+import com.project.application.event.RequestCreated;
+import com.project.application.event.RequestDenied;
+import com.project.application.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes changes of a responsibility's pending request queue to the managers viewing it.
+
+ * Events on the "manager-requests:{responsibilityId}" channel:
+ * - request-created / return-requested: the new PendingRequestRow
+ * - request-approved / request-denied: {"requestIds": [...]} of requests that left the queue
+
+ * Driven by the request domain events (RequestCreated, ItemAssigned / ItemReturned for
+ * approvals, RequestDenied), which arrive after their commit. Like LiveAvailabilityFeed,
+ * changes are coalesced until the hub's loader thread picks them up: a burst of new
+ * requests is read back with one query, and a batch decision becomes one delta per
+ * responsibility. Nothing is recorded while no manager is listening.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ManagerRequestFeed {
+
+    private static final String CHANNEL_PREFIX = "manager-requests:";
+
+    private final LiveUpdateHub liveUpdateHub;
+    private final RequestRepository requestRepository;
+
+    private final Set<Long> pendingCreatedIds = ConcurrentHashMap.newKeySet();
+    private final Queue<Decision> pendingDecisions = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /**
+     * A request that left the queue, waiting for the next drain
+     */
+    private record Decision(Long responsibilityId, Long requestId, boolean approved) {
+    }
+
+    /**
+     * Subscribe to the request queue of a responsibility
+     */
+    public SseEmitter subscribe(Long responsibilityId) {
+        return liveUpdateHub.subscribe(CHANNEL_PREFIX + responsibilityId);
+    }
+
+    @EventListener
+    public void onRequestCreated(RequestCreated event) {
+        if (liveUpdateHub.hasSubscribers(CHANNEL_PREFIX)) {
+            pendingCreatedIds.add(event.requestId());
+            scheduleDrain();
+        }
+    }
+
+    @EventListener
+    public void onItemAssigned(ItemAssigned event) {
+        requestDecided(event.responsibilityId(), event.requestId(), true);
+    }
+
+    @EventListener
+    public void onItemReturned(ItemReturned event) {
+        requestDecided(event.responsibilityId(), event.requestId(), true);
+    }
+
+    @EventListener
+    public void onRequestDenied(RequestDenied event) {
+        requestDecided(event.responsibilityId(), event.requestId(), false);
+    }
+
+    private void requestDecided(Long responsibilityId, Long requestId, boolean approved) {
+        if (requestId == null || !liveUpdateHub.hasSubscribers(CHANNEL_PREFIX + responsibilityId)) {
+            return;
+        }
+        pendingDecisions.add(new Decision(responsibilityId, requestId, approved));
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true) && !liveUpdateHub.runInBackground(this::drain)) {
+            drainScheduled.set(false);
+        }
+    }
+
+    /**
+     * Push everything recorded since the last drain (runs on the loader thread).
+     * New requests go first, so a request created and decided in between is removed again.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+
+        List<Long> createdIds = new ArrayList<>();
+        Iterator<Long> iterator = pendingCreatedIds.iterator();
+        while (iterator.hasNext()) {
+            createdIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (!createdIds.isEmpty()) {
+            try {
+                for (PendingRequestRow row : requestRepository.findRowsByIds(createdIds)) {
+                    liveUpdateHub.publish(CHANNEL_PREFIX + row.responsibilityId(),
+                            row.isReturn() ? "return-requested" : "request-created", row);
+                }
+            } catch (Exception e) {
+                // Best effort like every delta; the managers' pages show the requests on reload
+                log.warn("Manager request feed could not load {} new requests: {}", createdIds.size(), e.getMessage());
+            }
+        }
+
+        Map<Decision, List<Long>> decidedIds = new LinkedHashMap<>();
+        Decision decision;
+        while ((decision = pendingDecisions.poll()) != null) {
+            // Group by responsibility and outcome (the request id is left out of the key)
+            decidedIds.computeIfAbsent(new Decision(decision.responsibilityId(), null, decision.approved()),
+                    key -> new ArrayList<>()).add(decision.requestId());
+        }
+        decidedIds.forEach((group, requestIds) -> liveUpdateHub.publish(CHANNEL_PREFIX + group.responsibilityId(),
+                group.approved() ? "request-approved" : "request-denied", Map.of("requestIds", requestIds)));
+    }
+}
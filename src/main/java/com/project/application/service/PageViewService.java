@@ -0,0 +1,131 @@
+package com.project.application.service;
+
+import com.project.application.dto.EventPage;
+import com.project.application.dto.EventSummary;
+import com.project.application.dto.ItemSummary;
+import com.project.application.dto.ManagerSummary;
+import com.project.application.dto.PendingRequestRow;
+import com.project.application.dto.ResponsibilityManagePage;
+import com.project.application.dto.ResponsibilitySummary;
+import com.project.application.dto.ResponsibilityViewPage;
+import com.project.application.dto.UserItemsPage;
+import com.project.application.entity.Responsibility;
+import com.project.application.repository.EventRepository;
+import com.project.application.repository.EventResponsibilityRepository;
+import com.project.application.repository.ItemRepository;
+import com.project.application.repository.ResponsibilityRepository;
+import com.project.application.repository.UserResponsibilityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Assembles the view models of the main pages.
+
+ * Open-session-in-view is disabled, so templates must not touch lazy entity
+ * associations. Each page is loaded here in one read-only transaction into
+ * immutable records (owner, manager and responsibility names joined in the
+ * queries); the connection is back in the pool before rendering starts.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PageViewService {
+
+    private final ResponsibilityRepository responsibilityRepository;
+    private final UserResponsibilityRepository userResponsibilityRepository;
+    private final ItemRepository itemRepository;
+    private final EventRepository eventRepository;
+    private final EventResponsibilityRepository eventResponsibilityRepository;
+    private final ItemService itemService;
+    private final RequestService requestService;
+    private final EventService eventService;
+
+    /**
+     * Responsibility management page (manager view); empty if the responsibility does not exist
+     */
+    public Optional<ResponsibilityManagePage> getResponsibilityManagePage(Long responsibilityId) {
+        return responsibilityRepository.findById(responsibilityId)
+                .map(responsibility -> new ResponsibilityManagePage(
+                        toSummary(responsibility),
+                        userResponsibilityRepository.findManagerSummariesByResponsibilityId(responsibilityId),
+                        itemRepository.findSummariesByResponsibilityId(responsibilityId),
+                        requestService.getRequestRowsByResponsibilityId(responsibilityId),
+                        itemService.getItemRequestStatuses(responsibilityId)));
+    }
+
+    /**
+     * Responsibility page as seen by a user; empty if the responsibility does not exist
+     */
+    public Optional<ResponsibilityViewPage> getResponsibilityViewPage(Long responsibilityId, Long userId) {
+        Optional<Responsibility> responsibility = responsibilityRepository.findById(responsibilityId);
+        if (responsibility.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<ItemSummary> items = itemRepository.findSummariesByResponsibilityId(responsibilityId);
+        List<PendingRequestRow> userRequests = requestService.getRequestRowsByUserId(userId);
+
+        return Optional.of(new ResponsibilityViewPage(
+                toSummary(responsibility.get()),
+                userResponsibilityRepository.findManagerSummariesByResponsibilityId(responsibilityId),
+                items,
+                requestService.getPendingItemIds(userRequests, "request"),
+                requestService.getPendingItemIds(userRequests, "return"),
+                eventService.isResponsibilityInActiveEvent(responsibilityId),
+                eventService.isResponsibilityInReturnAllowedEvent(responsibilityId)));
+    }
+
+    /**
+     * Items owned by a user, with their pending returns
+     */
+    public UserItemsPage getUserItemsPage(Long userId) {
+        return new UserItemsPage(
+                itemRepository.findSummariesByUserId(userId),
+                requestService.getPendingItemIds(requestService.getRequestRowsByUserId(userId), "return"),
+                eventService.areItemReturnsAllowed());
+    }
+
+    /**
+     * Event details with its responsibilities and their managers (one manager query for all
+     * responsibilities); empty if the event does not exist
+     */
+    public Optional<EventPage> getEventPage(Long eventId) {
+        Optional<EventSummary> event = eventRepository.findById(eventId).map(EventSummary::from);
+        if (event.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Responsibility> responsibilities = eventResponsibilityRepository.findResponsibilitiesByEventId(eventId);
+        if (responsibilities.isEmpty()) {
+            return Optional.of(new EventPage(event.get(), Map.of()));
+        }
+
+        Map<Long, List<ManagerSummary>> managersByResponsibility = new LinkedHashMap<>();
+        List<Long> responsibilityIds = responsibilities.stream().map(Responsibility::getResponsibilityId).toList();
+        for (Object[] row : userResponsibilityRepository.findManagerNamesByResponsibilityIds(responsibilityIds)) {
+            managersByResponsibility.computeIfAbsent((Long) row[0], key -> new ArrayList<>())
+                    .add(new ManagerSummary((Long) row[1], (String) row[2], (String) row[3]));
+        }
+
+        Map<ResponsibilitySummary, List<ManagerSummary>> responsibilitiesWithManagers = new LinkedHashMap<>();
+        for (Responsibility responsibility : responsibilities) {
+            responsibilitiesWithManagers.put(toSummary(responsibility), List.copyOf(
+                    managersByResponsibility.getOrDefault(responsibility.getResponsibilityId(), List.of())));
+        }
+
+        return Optional.of(new EventPage(event.get(), Collections.unmodifiableMap(responsibilitiesWithManagers)));
+    }
+
+    private ResponsibilitySummary toSummary(Responsibility responsibility) {
+        return new ResponsibilitySummary(responsibility.getResponsibilityId(),
+                responsibility.getResponsibilityName(), responsibility.getDescription());
+    }
+}
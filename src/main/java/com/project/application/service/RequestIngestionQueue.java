@@ -0,0 +1,272 @@
+package com.project.application.service;
+
+import com.project.application.entity.Request;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.RequestCreated;
+import com.project.application.repository.ItemRepository;
+import com.project.application.repository.RequestRepository;
+import com.project.application.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit stage for new item requests.
+
+ * Validated requests are queued here instead of each caller opening its own
+ * transaction. One writer thread collects whatever arrived within a short linger
+ * window (up to the batch size) and inserts it in a single transaction with JDBC
+ * batching, then completes every caller's future after the commit. During an event
+ * activation burst this keeps request inserts at one pool connection instead of one
+ * connection per click.
+
+ * The queue is bounded; when it is full the caller is told to retry instead of
+ * waiting. A caller whose request is not committed within the response timeout (the
+ * writer is stalled, for example waiting for a pool connection) gets a message to check
+ * its requests before retrying; the request may still be inserted later. If a batch hits a constraint violation (a duplicate request, or a user or
+ * item deleted meanwhile) it is rolled back and its requests are inserted one by one,
+ * so only the offending caller sees the error.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestIngestionQueue {
+
+    // How long the writer waits for an empty queue before checking for shutdown
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final String SHUTTING_DOWN_MESSAGE = "The server is shutting down, please try again shortly";
+
+    private final RequestRepository requestRepository;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DomainEventPublisher domainEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.request-ingestion.queue-capacity:5000}")
+    private int queueCapacity;
+
+    @Value("${app.request-ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.request-ingestion.linger-ms:5}")
+    private long lingerMillis;
+
+    @Value("${app.request-ingestion.response-timeout-ms:5000}")
+    private long responseTimeoutMillis;
+
+    private BlockingQueue<PendingRequest> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+    private Counter rejectedCounter;
+
+    /**
+     * A validated request waiting for the writer, with the future its caller waits on
+     */
+    private record PendingRequest(Long userId, Long itemId, Long responsibilityId, String requestType,
+                                  CompletableFuture<String> result) {
+
+        String key() {
+            return userId + ":" + itemId;
+        }
+    }
+
+    @PostConstruct
+    void startWriter() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize("app.request.ingestion.queue.size", Tags.empty(), queue);
+        rejectedCounter = meterRegistry.counter("app.request.ingestion.rejected");
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writer = new Thread(this::runWriter, "request-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        // The writer drains what is already queued before it exits
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Requests offered after the writer's last poll (or left behind if it did not finish in time)
+        PendingRequest leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result().complete(SHUTTING_DOWN_MESSAGE);
+        }
+    }
+
+    /**
+     * Queue a validated request for insertion (the responsibility id is only carried into the RequestCreated event).
+     * The future completes with "success" after the batch commits, or with an error message.
+     */
+    public CompletableFuture<String> enqueue(Long userId, Long itemId, Long responsibilityId, String requestType) {
+        if (!running) {
+            return CompletableFuture.completedFuture(SHUTTING_DOWN_MESSAGE);
+        }
+
+        PendingRequest pending = new PendingRequest(userId, itemId, responsibilityId, requestType, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            rejectedCounter.increment();
+            return CompletableFuture.completedFuture("Too many requests are being submitted, please try again shortly");
+        }
+        // The callers' HTTP requests wait on this future; do not hold them for the MVC async timeout
+        return pending.result().completeOnTimeout(
+                "Your request is taking longer than expected; please check your requests before trying again",
+                responseTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingRequest> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // Keep the writer alive; the failed batch's futures were already completed in flush
+                meterRegistry.counter("app.background.failures", "worker", "request-writer").increment();
+                log.error("Request writer error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Wait for the first request, then keep collecting until the linger window
+     * closes or the batch is full
+     */
+    private List<PendingRequest> nextBatch() throws InterruptedException {
+        List<PendingRequest> batch = new ArrayList<>();
+        PendingRequest first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            PendingRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Insert a batch in one transaction and complete the callers after commit
+     */
+    private void flush(List<PendingRequest> batch) {
+        // A double click can put the same user and item in one batch; only the first is inserted
+        Map<String, PendingRequest> unique = new LinkedHashMap<>();
+        for (PendingRequest pending : batch) {
+            if (unique.putIfAbsent(pending.key(), pending) != null) {
+                pending.result().complete("You already have a pending request for this item");
+            }
+        }
+
+        List<PendingRequest> pendings = List.copyOf(unique.values());
+        List<Request> saved;
+        try {
+            saved = transactionTemplate.execute(status ->
+                    requestRepository.saveAll(pendings.stream().map(this::toRequest).toList()));
+
+        } catch (DataIntegrityViolationException e) {
+            // One bad row rolls back the whole batch; retry individually to find it
+            pendings.forEach(this::insertOne);
+            return;
+
+        } catch (Exception e) {
+            pendings.forEach(pending -> pending.result().complete("Failed to create request: " + e.getMessage()));
+            return;
+        }
+
+        // Committed: answer the callers, then publish (the managers' live queues listen to RequestCreated)
+        pendings.forEach(pending -> pending.result().complete("success"));
+        for (int i = 0; i < saved.size(); i++) {
+            publishCreated(saved.get(i), pendings.get(i));
+        }
+    }
+
+    /**
+     * Insert a single request in its own transaction (fallback after a failed batch)
+     */
+    private void insertOne(PendingRequest pending) {
+        Request saved;
+        try {
+            saved = transactionTemplate.execute(status -> requestRepository.save(toRequest(pending)));
+
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateRequest(e)) {
+                pending.result().complete("You already have a pending request for this item");
+            } else {
+                pending.result().complete("Failed to create request: the user or item no longer exists");
+            }
+            return;
+        } catch (Exception e) {
+            pending.result().complete("Failed to create request: " + e.getMessage());
+            return;
+        }
+
+        pending.result().complete("success");
+        publishCreated(saved, pending);
+    }
+
+    /**
+     * Called after commit, so listeners run right away on the writer thread; a failing
+     * listener is logged so the other requests of the batch are still published
+     */
+    private void publishCreated(Request request, PendingRequest pending) {
+        try {
+            domainEventPublisher.publish(new RequestCreated(request.getRequestId(), pending.userId(), pending.itemId(),
+                    pending.responsibilityId(), pending.requestType()));
+        } catch (Exception e) {
+            log.error("RequestCreated listener failed for request {}: {}", request.getRequestId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Build the entity from references only, so no user or item row is selected
+     */
+    private Request toRequest(PendingRequest pending) {
+        return new Request(userRepository.getReferenceById(pending.userId()),
+                itemRepository.getReferenceById(pending.itemId()), pending.requestType());
+    }
+
+    /**
+     * Recognize a violation of the one-request-per-user-and-item constraint
+     */
+    private boolean isDuplicateRequest(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(Request.UNIQUE_USER_ITEM);
+    }
+}
@@ -1,8 +1,13 @@
 package com.project.application.service;
 
+import com.project.application.dto.ItemAvailability;
+import com.project.application.dto.PendingRequestRow;
+import com.project.application.dto.RequestDecisionOutcome;
 import com.project.application.entity.Request;
-import com.project.application.entity.User;
-import com.project.application.entity.Item;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemReturned;
+import com.project.application.event.RequestDenied;
 import com.project.application.repository.RequestRepository;
 import com.project.application.repository.UserRepository;
 import com.project.application.repository.ItemRepository;
@@ -10,8 +15,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service layer for managing item requests and returns in the logistics system.
@@ -25,9 +36,11 @@ import java.util.Optional;
  * Business Rules:
  * - Item requests only allowed during active events
  * - Return requests allowed during active OR equipment-return events
- * - Users can only have one pending request per item
- * - Only available items can be requested
+ * - Users can only have one pending request per item (unique constraint on user and item)
+ * - Available items can be requested; requesting an item in use joins its waitlist
  * - Only owned items can be returned
+ * - Approvals assign items with conditional updates, so an item is never given to two users
+ * - Returned items go to their oldest waiting request (automatically when the responsibility opts in)
 
  * Note: Uses direct repository access to avoid circular dependencies with UserService
  */
@@ -40,12 +53,16 @@ public class RequestService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final EventService eventService;
+    private final RequestIngestionQueue requestIngestionQueue;
+    private final DomainEventPublisher domainEventPublisher;
 
     // Constants for request types
     private static final String REQUEST_TYPE_REQUEST = "request";
     private static final String REQUEST_TYPE_RETURN = "return";
     private static final String ITEM_STATUS_AVAILABLE = "Available";
     private static final String ITEM_STATUS_IN_USE = "In Use";
+    private static final String ITEM_ASSIGNED_MESSAGE = "Item is assigned to another user; the request stays on its waitlist";
+    private static final String ITEM_UNAVAILABLE_MESSAGE = "Item is not available; the request stays on its waitlist";
 
     // ========== CORE REQUEST OPERATIONS ==========
 
@@ -53,45 +70,41 @@ public class RequestService {
      * Creates a new request for requesting or returning an item.
      * Validates event status, item availability, and user permissions.
      *
-     * @param userId The ID of the user making the request
+     * Validation runs on the caller's thread without a transaction: one projection query
+     * reads the item's status, owner and responsibility, and event eligibility comes from
+     * the in-memory index. Accepted requests are handed to the {@link RequestIngestionQueue},
+     * which inserts them in batches; the returned future completes after the batch commits.
+     * A second request for the same user and item is rejected by the unique constraint on
+     * requests(user_id, item_id).
+     *
+     * @param userId The ID of the user making the request (taken from the authenticated principal)
      * @param itemId The ID of the item being requested/returned
      * @param requestType Either "request" or "return"
-     * @return "success" if created successfully, error message otherwise
+     * @return future of "success" once the request is committed, or of an error message
      */
-    @Transactional
-    public String createRequest(Long userId, Long itemId, String requestType) {
+    public CompletableFuture<String> createRequest(Long userId, Long itemId, String requestType) {
         try {
             // Input validation
             String validationResult = validateRequestInput(userId, itemId, requestType);
             if (!validationResult.equals("success")) {
-                return validationResult;
+                return CompletableFuture.completedFuture(validationResult);
             }
 
-            // Fetch entities
-            User user = getUserById(userId);
-            Item item = getItemById(itemId);
-            if (user == null) return "User not found";
-            if (item == null) return "Item not found";
-
-            // Check for duplicate requests
-            if (hasPendingRequest(userId, itemId)) {
-                return "You already have a pending request for this item";
-            }
+            // Read only the item columns the rules need
+            Optional<ItemAvailability> item = itemRepository.findAvailabilityById(itemId);
+            if (item.isEmpty()) return CompletableFuture.completedFuture("Item not found");
 
             // Validate business rules based on request type
-            String businessValidationResult = validateBusinessRules(user, item, requestType);
+            String businessValidationResult = validateBusinessRules(userId, item.get(), requestType);
             if (!businessValidationResult.equals("success")) {
-                return businessValidationResult;
+                return CompletableFuture.completedFuture(businessValidationResult);
             }
 
-            // Create and save the request
-            Request request = new Request(user, item, requestType);
-            requestRepository.save(request);
-
-            return "success";
+            // Inserted by the batch writer
+            return requestIngestionQueue.enqueue(userId, itemId, item.get().responsibilityId(), requestType);
 
         } catch (Exception e) {
-            return "Failed to create request: " + e.getMessage();
+            return CompletableFuture.completedFuture("Failed to create request: " + e.getMessage());
         }
     }
 
@@ -99,6 +112,10 @@ public class RequestService {
      * Approves a request and updates item status accordingly.
      * For item requests: assigns item to user and sets status to "In Use"
      * For return requests: removes user assignment and sets status to "Available"
+
+     * The item is changed with a conditional UPDATE (see processItemRequest/processItemReturn),
+     * so when two managers approve competing requests for the same item at the same time,
+     * exactly one wins and the other gets an "already assigned" result.
      *
      * @param requestId The ID of the request to approve
      * @return "success" if approved successfully, error message otherwise
@@ -106,26 +123,27 @@ public class RequestService {
     @Transactional
     public String approveRequest(Long requestId) {
         try {
-            Optional<Request> requestOptional = requestRepository.findById(requestId);
+            Optional<Request> requestOptional = requestRepository.findWithItemById(requestId);
             if (requestOptional.isEmpty()) {
                 return "Request not found";
             }
 
             Request request = requestOptional.get();
-            Item item = request.getItem();
-            User user = request.getUser();
 
+            // Ids come from the foreign keys; the user row is not loaded
+            Long itemId = request.getItemId();
+            Long userId = request.getUserId();
+
+            String result;
             if (REQUEST_TYPE_REQUEST.equals(request.getRequestType())) {
-                processItemRequest(item, user);
+                result = processItemRequest(request, itemId, userId);
             } else if (REQUEST_TYPE_RETURN.equals(request.getRequestType())) {
-                processItemReturn(item);
+                result = processItemReturn(request, itemId, userId);
+            } else {
+                return "Invalid request type";
             }
 
-            // Save item changes and remove the approved request
-            itemRepository.save(item);
-            requestRepository.delete(request);
-
-            return "success";
+            return result;
 
         } catch (Exception e) {
             return "Failed to approve request: " + e.getMessage();
@@ -141,11 +159,14 @@ public class RequestService {
     @Transactional
     public String denyRequest(Long requestId) {
         try {
-            if (!requestRepository.existsById(requestId)) {
+            Optional<Request> requestOptional = requestRepository.findWithItemById(requestId);
+            if (requestOptional.isEmpty()) {
                 return "Request not found";
             }
 
-            requestRepository.deleteById(requestId);
+            Request request = requestOptional.get();
+            requestRepository.delete(request);
+            publishDenied(request);
             return "success";
 
         } catch (Exception e) {
@@ -153,6 +174,40 @@ public class RequestService {
         }
     }
 
+    /**
+     * Approves or denies several requests of one responsibility in a single transaction.
+     * All requests and their items are loaded with one query. Approvals run oldest first
+     * (by dateOfIssue), so when several requests target the same item the earliest one wins
+     * and the others get an "already assigned" outcome but stay on the item's waitlist. Requests for an item a manager
+     * made Unavailable get a "not available" outcome and also stay waitlisted. Ids that do not exist or belong to
+     * another responsibility get a "not found" outcome.
+     *
+     * @param responsibilityId The responsibility the requests must belong to
+     * @param requestIds The requests to decide
+     * @param approve true to approve, false to deny
+     * @return One outcome per distinct request ID, in the order given
+     */
+    @Transactional
+    public List<RequestDecisionOutcome> decideRequests(Long responsibilityId, List<Long> requestIds, boolean approve) {
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        for (Long requestId : requestIds) {
+            if (requestId != null) {
+                distinctIds.add(requestId);
+            }
+        }
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Request> requests = requestRepository.findForDecision(distinctIds, responsibilityId);
+        Map<Long, RequestDecisionOutcome> outcomes = approve ? approveOldestFirst(requests) : denyAll(requests);
+
+        return distinctIds.stream()
+                .map(requestId -> outcomes.getOrDefault(requestId,
+                        RequestDecisionOutcome.failed(requestId, "Request not found")))
+                .toList();
+    }
+
     // ========== QUERY OPERATIONS ==========
 
     /**
@@ -162,6 +217,30 @@ public class RequestService {
         return requestRepository.findByResponsibilityId(responsibilityId);
     }
 
+    /**
+     * Pending requests of a responsibility for the manager inbox (names joined in one query).
+     */
+    public List<PendingRequestRow> getRequestRowsByResponsibilityId(Long responsibilityId) {
+        return requestRepository.findRowsByResponsibilityId(responsibilityId);
+    }
+
+    /**
+     * Pending requests made by a user (names joined in one query).
+     */
+    public List<PendingRequestRow> getRequestRowsByUserId(Long userId) {
+        return requestRepository.findRowsByUserId(userId);
+    }
+
+    /**
+     * Ids of the items a user has pending requests of the given type for.
+     */
+    public List<Long> getPendingItemIds(List<PendingRequestRow> userRequests, String requestType) {
+        return userRequests.stream()
+                .filter(request -> requestType.equals(request.requestType()))
+                .map(PendingRequestRow::itemId)
+                .toList();
+    }
+
     /**
      * Retrieves all requests made by a specific user.
      */
@@ -197,6 +276,13 @@ public class RequestService {
         return requestRepository.findById(requestId);
     }
 
+    /**
+     * Gets the responsibility ID of a request's item (empty if the request does not exist).
+     */
+    public Optional<Long> findResponsibilityIdOfRequest(Long requestId) {
+        return requestRepository.findResponsibilityIdByRequestId(requestId);
+    }
+
     /**
      * Gets a specific request by user and item combination.
      */
@@ -273,13 +359,13 @@ public class RequestService {
     /**
      * Validates business rules for request creation based on request type.
      */
-    private String validateBusinessRules(User user, Item item, String requestType) {
-        Long responsibilityId = item.getResponsibilityId();
+    private String validateBusinessRules(Long userId, ItemAvailability item, String requestType) {
+        Long responsibilityId = item.responsibilityId();
 
         if (REQUEST_TYPE_REQUEST.equals(requestType)) {
-            return validateItemRequestRules(item, responsibilityId);
+            return validateItemRequestRules(item, userId, responsibilityId);
         } else if (REQUEST_TYPE_RETURN.equals(requestType)) {
-            return validateItemReturnRules(item, user.getUserId(), responsibilityId);
+            return validateItemReturnRules(item, userId, responsibilityId);
         }
 
         return "success";
@@ -288,18 +374,23 @@ public class RequestService {
     /**
      * Validates rules specific to item requests.
      */
-    private String validateItemRequestRules(Item item, Long responsibilityId) {
+    private String validateItemRequestRules(ItemAvailability item, Long userId, Long responsibilityId) {
         // Check event status for item requests
         if (!eventService.isResponsibilityInActiveEvent(responsibilityId)) {
             return "Item requests are not allowed at this time. No active events for this responsibility.";
         }
 
+        // Items in use can be waited for; the request joins the item's waitlist
+        if (ITEM_STATUS_IN_USE.equals(item.status())) {
+            return item.isOwnedBy(userId) ? "You already have this item" : "success";
+        }
+
         // Check item availability
-        if (!ITEM_STATUS_AVAILABLE.equals(item.getStatus())) {
+        if (!ITEM_STATUS_AVAILABLE.equals(item.status())) {
             return "Item is not available for request";
         }
 
-        if (item.getUser() != null) {
+        if (item.ownerId() != null) {
             return "Item is already owned by another user";
         }
 
@@ -309,14 +400,14 @@ public class RequestService {
     /**
      * Validates rules specific to item returns.
      */
-    private String validateItemReturnRules(Item item, Long userId, Long responsibilityId) {
+    private String validateItemReturnRules(ItemAvailability item, Long userId, Long responsibilityId) {
         // Check event status for returns (active OR return-mode events allowed)
         if (!eventService.isResponsibilityInReturnAllowedEvent(responsibilityId)) {
             return "Item returns are not allowed at this time. No active or return-mode events for this responsibility.";
         }
 
         // Check item ownership
-        if (!ITEM_STATUS_IN_USE.equals(item.getStatus())) {
+        if (!ITEM_STATUS_IN_USE.equals(item.status())) {
             return "Item is not currently in use";
         }
 
@@ -329,46 +420,118 @@ public class RequestService {
 
     /**
      * Processes an approved item request by assigning the item to the user.
+     * The assignment only succeeds if the item has no owner and is Available. Only the approved
+     * request is removed; competing requests stay on the item's waitlist for when it is returned.
      */
-    private void processItemRequest(Item item, User user) {
-        item.setStatus(ITEM_STATUS_IN_USE);
-        item.setUser(user);
-
-        // Deny all other pending requests for this item
-        List<Request> otherRequests = requestRepository.findByItemId(item.getItemId());
-        for (Request otherRequest : otherRequests) {
-            if (!otherRequest.getRequestId().equals(item.getItemId())) {
-                requestRepository.delete(otherRequest);
-            }
+    private String processItemRequest(Request request, Long itemId, Long userId) {
+        int claimed = itemRepository.claimIfAvailable(itemId, userRepository.getReferenceById(userId));
+        if (claimed == 0) {
+            return claimFailureMessage(itemId);
         }
+
+        requestRepository.delete(request);
+        domainEventPublisher.publish(
+                new ItemAssigned(itemId, userId, request.getResponsibilityId(), request.getRequestId()));
+        return "success";
     }
 
     /**
-     * Processes an approved item return by removing user assignment.
+     * Why a claim failed: the item has an owner, or it is free but not Available (a manager
+     * made it Unavailable while requests were waiting)
      */
-    private void processItemReturn(Item item) {
-        item.setStatus(ITEM_STATUS_AVAILABLE);
-        item.setUser(null);
+    private String claimFailureMessage(Long itemId) {
+        return itemRepository.findAvailabilityById(itemId)
+                .map(item -> item.ownerId() == null && !ITEM_STATUS_AVAILABLE.equals(item.status())
+                        ? ITEM_UNAVAILABLE_MESSAGE : ITEM_ASSIGNED_MESSAGE)
+                .orElse("Item not found");
     }
 
     /**
-     * Helper method to check if user has pending request for item.
+     * Processes an approved item return by removing user assignment.
+     * Only releases the item if the requesting user still owns it; the ItemReturned event
+     * hands the freed item to its waitlist.
      */
-    private boolean hasPendingRequest(Long userId, Long itemId) {
-        return requestRepository.existsByUser_UserIdAndItem_ItemId(userId, itemId);
+    private String processItemReturn(Request request, Long itemId, Long userId) {
+        int released = itemRepository.releaseIfOwnedBy(itemId, userId);
+        if (released == 0) {
+            return "Item is no longer assigned to this user";
+        }
+
+        requestRepository.delete(request);
+        domainEventPublisher.publish(
+                new ItemReturned(itemId, userId, request.getResponsibilityId(), request.getRequestId()));
+        return "success";
     }
 
     /**
-     * Helper method to get user by ID with null safety.
+     * Approves requests in the given (oldest first) order. Ownership changes made earlier in the
+     * batch are tracked in memory; the conditional item updates still guard against other managers.
+     * Approved requests are then deleted in one statement; competing requests stay on their
+     * item's waitlist. Every assignment and return is published as a domain event.
      */
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElse(null);
+    private Map<Long, RequestDecisionOutcome> approveOldestFirst(List<Request> requests) {
+        Map<Long, RequestDecisionOutcome> outcomes = new HashMap<>();
+        Map<Long, Long> ownerByItemId = new HashMap<>();
+        List<Long> approvedRequestIds = new ArrayList<>();
+
+        for (Request request : requests) {
+            Long requestId = request.getRequestId();
+            Long itemId = request.getItem().getItemId();
+            Long userId = request.getUserId();
+            Long ownerId = ownerByItemId.containsKey(itemId) ? ownerByItemId.get(itemId) : request.getItem().getUserId();
+
+            if (REQUEST_TYPE_REQUEST.equals(request.getRequestType())) {
+                if (ownerId != null) {
+                    outcomes.put(requestId, RequestDecisionOutcome.failed(requestId, ITEM_ASSIGNED_MESSAGE));
+                    continue;
+                }
+                if (itemRepository.claimIfAvailable(itemId, userRepository.getReferenceById(userId)) == 0) {
+                    outcomes.put(requestId, RequestDecisionOutcome.failed(requestId, claimFailureMessage(itemId)));
+                    continue;
+                }
+                ownerByItemId.put(itemId, userId);
+                domainEventPublisher.publish(
+                        new ItemAssigned(itemId, userId, request.getResponsibilityId(), request.getRequestId()));
+
+            } else if (REQUEST_TYPE_RETURN.equals(request.getRequestType())) {
+                if (!userId.equals(ownerId) || itemRepository.releaseIfOwnedBy(itemId, userId) == 0) {
+                    outcomes.put(requestId, RequestDecisionOutcome.failed(requestId, "Item is no longer assigned to this user"));
+                    continue;
+                }
+                ownerByItemId.put(itemId, null);
+                domainEventPublisher.publish(
+                        new ItemReturned(itemId, userId, request.getResponsibilityId(), request.getRequestId()));
+            }
+
+            approvedRequestIds.add(requestId);
+            outcomes.put(requestId, RequestDecisionOutcome.succeeded(requestId));
+        }
+
+        if (!approvedRequestIds.isEmpty()) {
+            requestRepository.deleteAllByIdInBatch(approvedRequestIds);
+        }
+
+        return outcomes;
     }
 
     /**
-     * Helper method to get item by ID with null safety.
+     * Denies the given requests with one delete statement.
      */
-    private Item getItemById(Long itemId) {
-        return itemRepository.findById(itemId).orElse(null);
+    private Map<Long, RequestDecisionOutcome> denyAll(List<Request> requests) {
+        Map<Long, RequestDecisionOutcome> outcomes = new HashMap<>();
+        List<Long> requestIds = requests.stream().map(Request::getRequestId).toList();
+
+        if (!requestIds.isEmpty()) {
+            requestRepository.deleteAllByIdInBatch(requestIds);
+        }
+        requestIds.forEach(requestId -> outcomes.put(requestId, RequestDecisionOutcome.succeeded(requestId)));
+        requests.forEach(this::publishDenied);
+
+        return outcomes;
+    }
+
+    private void publishDenied(Request request) {
+        domainEventPublisher.publish(new RequestDenied(request.getRequestId(), request.getUserId(),
+                request.getItemId(), request.getResponsibilityId(), request.getRequestType()));
     }
-}
\ No newline at end of file
+}
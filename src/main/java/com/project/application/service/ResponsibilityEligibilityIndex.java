@@ -0,0 +1,214 @@
+package com.project.application.service;
+
+import com.project.application.entity.Event;
+import com.project.application.repository.EventResponsibilityRepository;
+import com.project.application.util.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index from responsibilityId to a bitmask of the ongoing event states
+ * the responsibility takes part in.
+
+ * Request/return eligibility checks run on every item request and every
+ * responsibility page render, so they are answered from this map instead of
+ * loading every ongoing event and its responsibilities.
+
+ * Lookups never block and never query: they read the current map. The index is built
+ * at startup, and every operation that changes event status or event-responsibility
+ * assignments invalidates it after commit, which schedules a rebuild with a single
+ * query on the index's own thread. The previous map is served until the new one is
+ * swapped in, and a burst of transitions during a rebuild costs one more rebuild.
+ * Rebuilding on the caller's thread would need a second pool connection while the
+ * caller's transaction holds one, which can exhaust the pool during a burst of page
+ * renders right after an event is activated.
+
+ * Work that must see the new eligibility of a commit (the event status push) runs
+ * through {@link #runWhenCurrent(Runnable)}. The services invalidate the index
+ * directly instead of through a domain event listener, so the rebuild is already
+ * scheduled when the commit's events are published.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponsibilityEligibilityIndex {
+
+    // Bitmask flags
+    public static final int IN_ACTIVE_EVENT = 1;
+    public static final int IN_RETURN_EVENT = 2;
+
+    // Delay before retrying a rebuild that failed (for example while the database is unreachable)
+    private static final long RETRY_DELAY_MILLIS = 5000;
+
+    private final EventResponsibilityRepository eventResponsibilityRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<Long, Integer> index = Map.of();
+
+    // Guarded by this: invalidated since the last rebuild started, a rebuild is scheduled or
+    // running, and the tasks waiting for it
+    private boolean dirty = true;
+    private boolean rebuilding;
+    private final List<Runnable> waitingForRebuild = new ArrayList<>();
+
+    private ScheduledExecutorService rebuilder;
+
+    @PostConstruct
+    void startRebuilder() {
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eligibility-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopRebuilder() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Build the index once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        scheduleRebuild();
+    }
+
+    /**
+     * Check if responsibility is part of at least one active event (item requests allowed)
+     */
+    public boolean isInActiveEvent(Long responsibilityId) {
+        return (flagsFor(responsibilityId) & IN_ACTIVE_EVENT) != 0;
+    }
+
+    /**
+     * Check if responsibility is part of at least one equipment-return event
+     */
+    public boolean isInReturnEvent(Long responsibilityId) {
+        return (flagsFor(responsibilityId) & IN_RETURN_EVENT) != 0;
+    }
+
+    /**
+     * Check if responsibility is part of an active or equipment-return event (item returns allowed)
+     */
+    public boolean isInReturnAllowedEvent(Long responsibilityId) {
+        return flagsFor(responsibilityId) != 0;
+    }
+
+    /**
+     * Mark the index as outdated and schedule a rebuild.
+     * Inside a transaction this is deferred until commit, so the rebuild never reads uncommitted data.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::scheduleRebuild);
+    }
+
+    /**
+     * Run the task once every invalidation so far is reflected in the index: now if no
+     * rebuild is pending, otherwise on the rebuild thread right after the swap
+     */
+    public void runWhenCurrent(Runnable task) {
+        synchronized (this) {
+            if (rebuilding) {
+                waitingForRebuild.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    private int flagsFor(Long responsibilityId) {
+        if (responsibilityId == null) {
+            return 0;
+        }
+        return index.getOrDefault(responsibilityId, 0);
+    }
+
+    private void scheduleRebuild() {
+        synchronized (this) {
+            dirty = true;
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+        }
+        rebuilder.execute(this::rebuildWhileDirty);
+    }
+
+    /**
+     * Rebuild until no invalidation arrived during the last query, then run the waiting tasks.
+     * The flag is cleared before querying, so an invalidation that lands during a rebuild triggers another one.
+     */
+    private void rebuildWhileDirty() {
+        List<Runnable> tasks;
+        while (true) {
+            synchronized (this) {
+                if (!dirty) {
+                    rebuilding = false;
+                    tasks = new ArrayList<>(waitingForRebuild);
+                    waitingForRebuild.clear();
+                    break;
+                }
+                dirty = false;
+            }
+
+            try {
+                index = load();
+            } catch (RuntimeException e) {
+                // Keep serving the previous map and retry later; waiting tasks stay queued
+                synchronized (this) {
+                    dirty = true;
+                }
+                meterRegistry.counter("app.background.failures", "worker", "eligibility-index").increment();
+                log.error("Eligibility index rebuild failed, retrying in {} ms: {}", RETRY_DELAY_MILLIS, e.getMessage());
+                rebuilder.schedule(this::rebuildWhileDirty, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Task waiting for the eligibility index failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read the ongoing event states of all responsibilities with one query in its own read-only transaction
+     */
+    private Map<Long, Integer> load() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        List<Object[]> rows = transactionTemplate.execute(status ->
+                eventResponsibilityRepository.findResponsibilityIdsAndEventStatuses(
+                        List.of(Event.STATUS_ACTIVE, Event.STATUS_EQUIPMENT_RETURN)));
+
+        Map<Long, Integer> rebuilt = new HashMap<>();
+        for (Object[] row : rows) {
+            Long responsibilityId = (Long) row[0];
+            int flag = Event.STATUS_ACTIVE.equals(row[1]) ? IN_ACTIVE_EVENT : IN_RETURN_EVENT;
+            rebuilt.merge(responsibilityId, flag, (a, b) -> a | b);
+        }
+        return Map.copyOf(rebuilt);
+    }
+}
@@ -3,6 +3,8 @@ package com.project.application.service;
 import com.project.application.entity.Responsibility;
 import com.project.application.entity.User;
 import com.project.application.entity.UserResponsibility;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.ResponsibilityChanged;
 import com.project.application.repository.ResponsibilityRepository;
 import com.project.application.repository.UserResponsibilityRepository;
 import com.project.application.repository.EventResponsibilityRepository;
@@ -45,6 +47,8 @@ public class ResponsibilityService {
     private final ResponsibilityRepository responsibilityRepository;
     private final UserResponsibilityRepository userResponsibilityRepository;
     private final EventResponsibilityRepository eventResponsibilityRepository;
+    private final ResponsibilityEligibilityIndex eligibilityIndex;
+    private final DomainEventPublisher domainEventPublisher;
 
     // ========== RESPONSIBILITY CRUD OPERATIONS ==========
 
@@ -57,7 +61,9 @@ public class ResponsibilityService {
      */
     public Responsibility createResponsibility(String responsibilityName) {
         Responsibility responsibility = new Responsibility(responsibilityName.trim());
-        return responsibilityRepository.save(responsibility);
+        Responsibility saved = responsibilityRepository.save(responsibility);
+        domainEventPublisher.publish(new ResponsibilityChanged(saved.getResponsibilityId()));
+        return saved;
     }
 
     /**
@@ -81,6 +87,7 @@ public class ResponsibilityService {
 
             // Step 3: Safe to delete responsibility entity
             responsibilityRepository.deleteById(responsibilityId);
+            domainEventPublisher.publish(new ResponsibilityChanged(responsibilityId));
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to delete responsibility: " + e.getMessage(), e);
@@ -104,6 +111,7 @@ public class ResponsibilityService {
 
             responsibility.setDescription(description);
             responsibilityRepository.save(responsibility);
+            domainEventPublisher.publish(new ResponsibilityChanged(responsibilityId));
             return "success";
 
         } catch (Exception e) {
@@ -111,6 +119,27 @@ public class ResponsibilityService {
         }
     }
 
+    /**
+     * Turns automatic waitlist allocation of returned items on or off.
+     */
+    @Transactional
+    public String updateWaitlistAutoAssign(Long responsibilityId, boolean enabled) {
+        try {
+            Responsibility responsibility = getResponsibilityOrFail(responsibilityId);
+            if (responsibility == null) {
+                return "Responsibility not found";
+            }
+
+            responsibility.setAutoAssignWaitlist(enabled);
+            responsibilityRepository.save(responsibility);
+            domainEventPublisher.publish(new ResponsibilityChanged(responsibilityId));
+            return "success";
+
+        } catch (Exception e) {
+            return "Failed to update waitlist setting: " + e.getMessage();
+        }
+    }
+
     // ========== QUERY OPERATIONS ==========
 
     /**
@@ -203,6 +232,7 @@ public class ResponsibilityService {
      */
     private void cleanupEventResponsibilityRelationships(Long responsibilityId) {
         eventResponsibilityRepository.deleteByResponsibility_ResponsibilityId(responsibilityId);
+        eligibilityIndex.invalidate();
     }
 
     /**
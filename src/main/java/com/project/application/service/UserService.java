@@ -1,10 +1,21 @@
 package com.project.application.service;
 
+import com.project.application.dto.AdminUserRow;
+import com.project.application.dto.KeysetPage;
 import com.project.application.entity.*;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.ItemForceReleased;
+import com.project.application.event.ManagerAssigned;
+import com.project.application.event.ResponsibilityChanged;
+import com.project.application.event.UserChanged;
 import com.project.application.repository.UserRepository;
 import com.project.application.repository.UserResponsibilityRepository;
+import com.project.application.security.PrincipalSnapshotRegistry;
+import com.project.application.security.UserPrincipal;
+import com.project.application.util.SearchPatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,13 +23,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Collections;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +69,9 @@ public class UserService implements UserDetailsService {
     private static final String ROLE_MANAGER = "manager";
     private static final String ROLE_USER = "user";
 
+    // Upper bound for one page of the admin user table
+    private static final int MAX_ADMIN_PAGE_SIZE = 200;
+
     // BCrypt identifier
     private static final String BCRYPT_PREFIX = "$2a$";
 
@@ -70,27 +84,41 @@ public class UserService implements UserDetailsService {
     private final RoleService roleService;
     private final ResponsibilityService responsibilityService;
     private final RequestService requestService;
+    private final ChunkedBulkExecutor chunkedBulkExecutor;
+    private final DomainEventPublisher domainEventPublisher;
 
     // Security Dependencies
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalSnapshotRegistry principalSnapshotRegistry;
 
     // ========== SPRING SECURITY INTEGRATION ==========
 
     /**
      * Loads user details for Spring Security authentication.
-     * Converts database user to Spring Security UserDetails format.
+     * Returns a UserPrincipal snapshot (id, names, role, manager responsibility)
+     * so later requests can read this data without querying the database.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Read the version before loading, so a concurrent change marks this snapshot stale
+        long snapshotVersion = principalSnapshotRegistry.currentVersion();
+
         User user = userRepository.findByEmailAddress(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmailAddress())
-                .password(user.getPassword())
-                .authorities(Collections.singletonList(
-                        new SimpleGrantedAuthority("ROLE_" + user.getRoleName().toUpperCase())))
-                .build();
+        Long responsibilityId = null;
+        String responsibilityName = null;
+        if (ROLE_MANAGER.equals(user.getRoleName())) {
+            Optional<UserResponsibility> userResponsibility = userResponsibilityRepository.findByUserId(user.getUserId());
+            if (userResponsibility.isPresent()) {
+                responsibilityId = userResponsibility.get().getResponsibility().getResponsibilityId();
+                responsibilityName = userResponsibility.get().getResponsibility().getResponsibilityName();
+            }
+        }
+
+        return new UserPrincipal(user.getUserId(), user.getEmailAddress(), user.getPassword(),
+                user.getFirstName(), user.getLastName(), user.getRoleName(),
+                responsibilityId, responsibilityName, snapshotVersion);
     }
 
     // ========== USER REGISTRATION & AUTHENTICATION ==========
@@ -196,6 +224,8 @@ public class UserService implements UserDetailsService {
             loggedInUser.setFirstName(firstName.trim().toLowerCase());
             loggedInUser.setLastName(lastName.trim().toLowerCase());
             userRepository.save(loggedInUser);
+            principalSnapshotRegistry.invalidate(loggedInUser.getUserId());
+            domainEventPublisher.publish(new UserChanged(loggedInUser.getUserId()));
             return "success";
 
         } catch (Exception e) {
@@ -243,6 +273,7 @@ public class UserService implements UserDetailsService {
                 User user = userOptional.get();
                 user.setRole(roleOptional.get());
                 userRepository.save(user);
+                principalSnapshotRegistry.invalidate(userId);
                 return "success";
             }
             return "User or role not found";
@@ -315,9 +346,7 @@ public class UserService implements UserDetailsService {
      */
     public boolean isLastChief(Long userId) {
         try {
-            long chiefCount = getAllNonAdminUsers().stream()
-                    .filter(u -> ROLE_CHIEF.equals(u.getRoleName()))
-                    .count();
+            long chiefCount = countChiefs();
 
             if (chiefCount == 1) {
                 Optional<User> userOptional = userRepository.findById(userId);
@@ -356,6 +385,8 @@ public class UserService implements UserDetailsService {
             // Create assignment and promote user
             createResponsibilityAssignment(user, responsibility);
             assignRoleToUser(user, ROLE_MANAGER);
+            principalSnapshotRegistry.invalidate(userId);
+            domainEventPublisher.publish(new ManagerAssigned(userId, responsibility.getResponsibilityId()));
 
             return "success";
 
@@ -388,6 +419,8 @@ public class UserService implements UserDetailsService {
 
             // Demote manager to user (if applicable)
             demoteManagerToUser(userId);
+            principalSnapshotRegistry.invalidate(userId);
+            domainEventPublisher.publish(new ResponsibilityChanged(responsibilityId));
 
             return "success";
 
@@ -428,6 +461,8 @@ public class UserService implements UserDetailsService {
 
             // Delete the user
             userRepository.deleteById(userId);
+            principalSnapshotRegistry.invalidate(userId);
+            domainEventPublisher.publish(new UserChanged(userId));
 
             return "success";
 
@@ -461,6 +496,8 @@ public class UserService implements UserDetailsService {
             }
 
             userRepository.save(user);
+            principalSnapshotRegistry.invalidate(userId);
+            domainEventPublisher.publish(new UserChanged(userId));
             return "success";
 
         } catch (Exception e) {
@@ -471,23 +508,34 @@ public class UserService implements UserDetailsService {
     /**
      * Deletes all non-admin users (critical admin functionality).
      */
-    @Transactional
     public String deleteAllNonAdminUsers() {
+        return deleteAllNonAdminUsers(BulkProgress.NONE);
+    }
+
+    /**
+     * Deletes all non-admin users in chunks, one transaction per chunk.
+     */
+    public String deleteAllNonAdminUsers(BulkProgress progress) {
         try {
-            List<User> nonAdminUsers = userRepository.findAllNonAdminUsers();
+            List<Long> userIds = userRepository.findAllNonAdminUserIds();
 
-            if (nonAdminUsers.isEmpty()) {
-                return "No users to delete";
+            if (userIds.isEmpty()) {
+                return "success:0"; // no users to delete
             }
 
-            int deletedCount = nonAdminUsers.size();
+            int deletedCount = chunkedBulkExecutor.forEachChunk(userIds, chunk -> {
+                List<User> users = userRepository.findAllById(chunk);
 
-            // Clean up all responsibility assignments first
-            cleanupAllResponsibilityAssignments(nonAdminUsers);
+                // Clean up all responsibility assignments first
+                cleanupAllResponsibilityAssignments(users);
 
-            // Delete all users
-            nonAdminUsers.forEach(userRepository::delete);
+                // Delete the users of this chunk
+                userRepository.deleteAll(users);
+                users.forEach(user -> principalSnapshotRegistry.invalidate(user.getUserId()));
+                return users.size();
+            }, progress);
 
+            domainEventPublisher.publish(new UserChanged(null));
             return "success:" + deletedCount;
 
         } catch (Exception e) {
@@ -497,6 +545,23 @@ public class UserService implements UserDetailsService {
 
     // ========== QUERY METHODS ==========
 
+    /**
+     * Gets non-admin user counts per role for admin metrics (one GROUP BY query).
+     */
+    public Map<String, Integer> getUserRoleDistribution() {
+        Map<String, Integer> roleCounts = new HashMap<>();
+        roleCounts.put(ROLE_CHIEF, 0);
+        roleCounts.put(ROLE_MANAGER, 0);
+        roleCounts.put(ROLE_USER, 0);
+
+        for (Object[] row : userRepository.countNonAdminUsersByRole()) {
+            String role = ((String) row[0]).toLowerCase();
+            roleCounts.computeIfPresent(role, (key, count) -> count + ((Long) row[1]).intValue());
+        }
+
+        return roleCounts;
+    }
+
     /**
      * Gets all non-admin users for management purposes.
      */
@@ -505,10 +570,45 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * Gets all users for admin user management interface.
+     * Gets one page of the admin user management table, ordered by last name, first name and id.
+     * roleFilter is "chief", "non-chief" or null for all; search matches the start of a name, email or phone.
+     * Pass the key of the last row of the previous page (all null for the first page).
      */
-    public List<User> getAllUsersForManagement() {
-        return userRepository.findAllNonAdminUsers();
+    public KeysetPage<AdminUserRow> getUserManagementPage(String roleFilter, String search, String afterLastName,
+                                                          String afterFirstName, Long afterUserId, int limit) {
+        String roleName = ROLE_CHIEF.equals(roleFilter) ? ROLE_CHIEF : null;
+        String excludedRoleName = "non-chief".equals(roleFilter) ? ROLE_CHIEF : null;
+        if (afterUserId == null || afterLastName == null || afterFirstName == null) {
+            afterLastName = null;
+            afterFirstName = null;
+            afterUserId = null;
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_ADMIN_PAGE_SIZE));
+        List<AdminUserRow> rows = userRepository.findUserPage(roleName, excludedRoleName,
+                SearchPatterns.prefix(search), afterLastName, afterFirstName, afterUserId, Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize);
+    }
+
+    /**
+     * Count all non-admin users
+     */
+    public long countNonAdminUsers() {
+        return userRepository.countNonAdminUsers();
+    }
+
+    /**
+     * Count users with the manager role
+     */
+    public long countManagers() {
+        return userRepository.countByRole_Name(ROLE_MANAGER);
+    }
+
+    /**
+     * Count users with the chief role
+     */
+    public long countChiefs() {
+        return userRepository.countByRole_Name(ROLE_CHIEF);
     }
 
     /**
@@ -671,6 +771,7 @@ public class UserService implements UserDetailsService {
 
         user.setRole(roleOptional.get());
         userRepository.save(user);
+        principalSnapshotRegistry.invalidate(user.getUserId());
         return "success";
     }
 
@@ -721,6 +822,7 @@ public class UserService implements UserDetailsService {
     private void handleUserItemsOnDeletion(Long userId) {
         List<Item> userItems = itemService.getItemsByUserId(userId);
         userItems.forEach(item -> {
+            domainEventPublisher.publish(new ItemForceReleased(item.getItemId(), userId, item.getResponsibilityId()));
             item.setUser(null);
             item.setStatus("Unavailable");
             itemService.saveItem(item);
@@ -806,28 +908,35 @@ public class UserService implements UserDetailsService {
         }
     }
 
-    @Transactional
     public String demoteAllManagers() {
+        return demoteAllManagers(BulkProgress.NONE);
+    }
+
+    /**
+     * Demotes all managers to users in chunks, one transaction per chunk.
+     */
+    public String demoteAllManagers(BulkProgress progress) {
         try {
-            List<User> managers = getAllNonAdminUsers().stream()
-                    .filter(u -> ROLE_MANAGER.equals(u.getRoleName()))
-                    .collect(Collectors.toList());
+            List<Long> managerIds = userRepository.findUserIdsByRoleName(ROLE_MANAGER);
 
-            if (managers.isEmpty()) {
-                return "No managers to demote";
+            if (managerIds.isEmpty()) {
+                return "success:0"; // no managers to demote
             }
 
-            int demotedCount = 0;
-
-            for (User manager : managers) {
-                // Remove from responsibility (this handles cascade deletion)
-                String removeResult = removeUserFromResponsibility(manager.getUserId());
-                if (removeResult.equals("success") || removeResult.equals("User has no responsibility assigned")) {
-                    // Demote to user role
-                    assignRoleToUser(manager, ROLE_USER);
-                    demotedCount++;
+            int demotedCount = chunkedBulkExecutor.forEachChunk(managerIds, chunk -> {
+                int demotedInChunk = 0;
+
+                for (User manager : userRepository.findAllById(chunk)) {
+                    // Remove from responsibility (this handles cascade deletion)
+                    String removeResult = removeUserFromResponsibility(manager.getUserId());
+                    if (removeResult.equals("success") || removeResult.equals("User has no responsibility assigned")) {
+                        // Demote to user role
+                        assignRoleToUser(manager, ROLE_USER);
+                        demotedInChunk++;
+                    }
                 }
-            }
+                return demotedInChunk;
+            }, progress);
 
             return "success:" + demotedCount;
 
@@ -836,26 +945,33 @@ public class UserService implements UserDetailsService {
         }
     }
 
-    @Transactional
     public String demoteAllChiefs() {
+        return demoteAllChiefs(BulkProgress.NONE);
+    }
+
+    /**
+     * Demotes all chiefs to users in chunks, one transaction per chunk.
+     */
+    public String demoteAllChiefs(BulkProgress progress) {
         try {
-            List<User> chiefs = getAllNonAdminUsers().stream()
-                    .filter(u -> ROLE_CHIEF.equals(u.getRoleName()))
-                    .collect(Collectors.toList());
+            List<Long> chiefIds = userRepository.findUserIdsByRoleName(ROLE_CHIEF);
 
-            if (chiefs.isEmpty()) {
-                return "No chiefs to demote";
+            if (chiefIds.isEmpty()) {
+                return "success:0"; // no chiefs to demote
             }
 
-            int demotedCount = 0;
+            int demotedCount = chunkedBulkExecutor.forEachChunk(chiefIds, chunk -> {
+                int demotedInChunk = 0;
 
-            for (User chief : chiefs) {
-                // Demote to user role (chiefs don't have responsibilities to remove)
-                String demoteResult = assignRoleToUser(chief, ROLE_USER);
-                if ("success".equals(demoteResult)) {
-                    demotedCount++;
+                for (User chief : userRepository.findAllById(chunk)) {
+                    // Demote to user role (chiefs don't have responsibilities to remove)
+                    String demoteResult = assignRoleToUser(chief, ROLE_USER);
+                    if ("success".equals(demoteResult)) {
+                        demotedInChunk++;
+                    }
                 }
-            }
+                return demotedInChunk;
+            }, progress);
 
             return "success:" + demotedCount;
 
@@ -863,4 +979,4 @@ public class UserService implements UserDetailsService {
             return "Failed to demote chiefs: " + e.getMessage();
         }
     }
-}
\ No newline at end of file
+}
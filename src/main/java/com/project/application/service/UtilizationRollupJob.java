@@ -0,0 +1,348 @@
+package com.project.application.service;
+
+import com.project.application.dto.EventWindow;
+import com.project.application.entity.CustodyRecord;
+import com.project.application.entity.ItemAssignmentInterval;
+import com.project.application.entity.UsageRollupState;
+import com.project.application.repository.CustodyRecordRepository;
+import com.project.application.repository.EventPeriodRepository;
+import com.project.application.repository.ItemAssignmentIntervalRepository;
+import com.project.application.repository.UsageRollupStateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rolls the custody ledger up into the utilization aggregates.
+
+ * Each pass reads the ledger rows after the stored watermark (in id order, one batch
+ * per transaction) and turns them into:
+ * - assignment intervals: opened by an approval, closed by a return or forced release
+ * - item_usage_daily: per item and day, hours in use (of closed intervals, split at
+ *   midnight), assignments, item requests, denied item requests and request-to-assignment wait
+ * - event_usage: the same per event and responsibility, for the parts that fall
+ *   inside the event's ongoing periods
+ * The deltas are added with one batched INSERT ... ON DUPLICATE KEY UPDATE per table,
+ * and the watermark moves in the same transaction, so each ledger row is counted once.
+ * Moving the watermark past the highest id read is safe because CustodyLedger is the
+ * only writer of the ledger and commits its inserts one at a time, in id order: no
+ * lower id can still be in flight when a higher one is visible.
+
+ * Hours in use are counted when an assignment ends; items still held appear once
+ * they are returned.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UtilizationRollupJob {
+
+    private static final String UPSERT_DAILY_SQL = "INSERT INTO item_usage_daily " +
+            "(item_id, usage_date, responsibility_id, seconds_in_use, assignment_count, request_count, " +
+            "denial_count, wait_seconds, wait_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE responsibility_id = COALESCE(VALUES(responsibility_id), responsibility_id), " +
+            "seconds_in_use = seconds_in_use + VALUES(seconds_in_use), " +
+            "assignment_count = assignment_count + VALUES(assignment_count), " +
+            "request_count = request_count + VALUES(request_count), " +
+            "denial_count = denial_count + VALUES(denial_count), " +
+            "wait_seconds = wait_seconds + VALUES(wait_seconds), " +
+            "wait_count = wait_count + VALUES(wait_count)";
+
+    private static final String UPSERT_EVENT_SQL = "INSERT INTO event_usage " +
+            "(event_id, responsibility_id, seconds_in_use, assignment_count, request_count, " +
+            "denial_count, wait_seconds, wait_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE seconds_in_use = seconds_in_use + VALUES(seconds_in_use), " +
+            "assignment_count = assignment_count + VALUES(assignment_count), " +
+            "request_count = request_count + VALUES(request_count), " +
+            "denial_count = denial_count + VALUES(denial_count), " +
+            "wait_seconds = wait_seconds + VALUES(wait_seconds), " +
+            "wait_count = wait_count + VALUES(wait_count)";
+
+    private final CustodyRecordRepository custodyRecordRepository;
+    private final ItemAssignmentIntervalRepository intervalRepository;
+    private final EventPeriodRepository eventPeriodRepository;
+    private final UsageRollupStateRepository rollupStateRepository;
+    private final UtilizationService utilizationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.utilization.rollup-interval-ms:60000}")
+    private long rollupIntervalMillis;
+
+    @Value("${app.utilization.batch-size:2000}")
+    private int batchSize;
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+
+    // Keys of the two aggregate tables
+    private record DayKey(Long itemId, LocalDate day) {
+    }
+
+    private record EventKey(Long eventId, Long responsibilityId) {
+    }
+
+    /**
+     * Deltas for one aggregate row, accumulated in memory during a pass
+     */
+    private static final class Totals {
+        Long responsibilityId;
+        long secondsInUse;
+        long assignmentCount;
+        long requestCount;
+        long denialCount;
+        long waitSeconds;
+        long waitCount;
+    }
+
+    @PostConstruct
+    void startRollup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "utilization-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runPass, rollupIntervalMillis, rollupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopRollup() {
+        executor.shutdown();
+    }
+
+    private void runPass() {
+        try {
+            // Close or open event periods for status changes that were not published (bulk admin jobs)
+            utilizationService.reconcileEventPeriods();
+
+            Integer processed;
+            do {
+                processed = transactionTemplate.execute(status -> rollUpNextBatch());
+            } while (processed != null && processed == batchSize);
+        } catch (Exception e) {
+            // The watermark did not move; the same rows are retried by the next pass
+            meterRegistry.counter("app.background.failures", "worker", "utilization-rollup").increment();
+            log.error("Utilization rollup failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add the next batch of ledger rows to the aggregates; returns the number of rows processed
+     */
+    private int rollUpNextBatch() {
+        UsageRollupState state = rollupStateRepository.findById(UsageRollupState.SINGLETON_ID)
+                .orElseGet(() -> new UsageRollupState(UsageRollupState.SINGLETON_ID));
+        List<CustodyRecord> records = custodyRecordRepository.findByRecordIdGreaterThanOrderByRecordId(
+                state.getLastRecordId(), Limit.of(batchSize));
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<EventWindow>> windowsByResponsibility = eventPeriodRepository.findEventWindows().stream()
+                .collect(Collectors.groupingBy(EventWindow::responsibilityId));
+        Map<Long, ItemAssignmentInterval> openIntervals = loadOpenIntervals(records);
+        Map<Long, LocalDateTime> requestTimes = loadRequestTimes(records);
+
+        Map<DayKey, Totals> dayTotals = new HashMap<>();
+        Map<EventKey, Totals> eventTotals = new HashMap<>();
+        List<ItemAssignmentInterval> changedIntervals = new ArrayList<>();
+
+        for (CustodyRecord record : records) {
+            Long itemId = record.getItemId();
+            Long responsibilityId = record.getResponsibilityId();
+            LocalDateTime time = record.getRecordedAt();
+            List<EventWindow> windows = windowsByResponsibility.getOrDefault(responsibilityId, List.of());
+
+            switch (record.getAction()) {
+                case CustodyRecord.ACTION_REQUEST -> {
+                    dayTotals(dayTotals, itemId, time.toLocalDate(), responsibilityId).requestCount++;
+                    eventsAt(eventTotals, windows, time).forEach(totals -> totals.requestCount++);
+                }
+                case CustodyRecord.ACTION_DENY -> {
+                    if ("request".equals(record.getRequestType())) {
+                        dayTotals(dayTotals, itemId, time.toLocalDate(), responsibilityId).denialCount++;
+                        eventsAt(eventTotals, windows, time).forEach(totals -> totals.denialCount++);
+                    }
+                }
+                case CustodyRecord.ACTION_APPROVE -> {
+                    // An interval still open here missed its release; end it where the new one starts
+                    ItemAssignmentInterval previous = openIntervals.remove(itemId);
+                    if (previous != null) {
+                        close(previous, time, CustodyRecord.ACTION_APPROVE, dayTotals, eventTotals, windowsByResponsibility);
+                        changedIntervals.add(previous);
+                    }
+
+                    LocalDateTime requestedAt = requestTimes.get(record.getRequestId());
+                    ItemAssignmentInterval interval = new ItemAssignmentInterval(itemId, record.getUserId(),
+                            responsibilityId, record.getRequestId(), requestedAt, time);
+                    openIntervals.put(itemId, interval);
+                    changedIntervals.add(interval);
+
+                    long waitSeconds = requestedAt != null ? Duration.between(requestedAt, time).getSeconds() : -1;
+                    List<Totals> affected = new ArrayList<>(eventsAt(eventTotals, windows, time));
+                    affected.add(dayTotals(dayTotals, itemId, time.toLocalDate(), responsibilityId));
+                    for (Totals totals : affected) {
+                        totals.assignmentCount++;
+                        if (waitSeconds >= 0) {
+                            totals.waitSeconds += waitSeconds;
+                            totals.waitCount++;
+                        }
+                    }
+                }
+                case CustodyRecord.ACTION_RETURN, CustodyRecord.ACTION_FORCED_RELEASE -> {
+                    // Assignments made before the ledger existed have no interval and are skipped
+                    ItemAssignmentInterval interval = openIntervals.remove(itemId);
+                    if (interval != null) {
+                        close(interval, time, record.getAction(), dayTotals, eventTotals, windowsByResponsibility);
+                        changedIntervals.add(interval);
+                    }
+                }
+                default -> {
+                    // Return requests do not change usage
+                }
+            }
+        }
+
+        intervalRepository.saveAll(changedIntervals);
+        upsertDayTotals(dayTotals);
+        upsertEventTotals(eventTotals);
+
+        state.setLastRecordId(records.get(records.size() - 1).getRecordId());
+        rollupStateRepository.save(state);
+        return records.size();
+    }
+
+    /**
+     * End an interval and add its time in use to each day and event period it spans
+     */
+    private void close(ItemAssignmentInterval interval, LocalDateTime releasedAt, String action,
+                       Map<DayKey, Totals> dayTotals, Map<EventKey, Totals> eventTotals,
+                       Map<Long, List<EventWindow>> windowsByResponsibility) {
+        interval.setReleasedAt(releasedAt);
+        interval.setReleaseAction(action);
+
+        LocalDateTime from = interval.getAssignedAt();
+        LocalDateTime cursor = from;
+        while (cursor.isBefore(releasedAt)) {
+            LocalDateTime nextDay = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime end = nextDay.isBefore(releasedAt) ? nextDay : releasedAt;
+            dayTotals(dayTotals, interval.getItemId(), cursor.toLocalDate(), interval.getResponsibilityId())
+                    .secondsInUse += Duration.between(cursor, end).getSeconds();
+            cursor = end;
+        }
+
+        for (EventWindow window : windowsByResponsibility.getOrDefault(interval.getResponsibilityId(), List.of())) {
+            long overlap = window.overlapSeconds(from, releasedAt);
+            if (overlap > 0) {
+                eventTotals(eventTotals, window).secondsInUse += overlap;
+            }
+        }
+    }
+
+    private Map<Long, ItemAssignmentInterval> loadOpenIntervals(List<CustodyRecord> records) {
+        List<Long> itemIds = records.stream().map(CustodyRecord::getItemId).distinct().toList();
+        Map<Long, ItemAssignmentInterval> openIntervals = new HashMap<>();
+        for (ItemAssignmentInterval interval : intervalRepository.findByItemIdInAndReleasedAtIsNull(itemIds)) {
+            openIntervals.put(interval.getItemId(), interval);
+        }
+        return openIntervals;
+    }
+
+    private Map<Long, LocalDateTime> loadRequestTimes(List<CustodyRecord> records) {
+        Collection<Long> requestIds = records.stream()
+                .filter(record -> CustodyRecord.ACTION_APPROVE.equals(record.getAction()) && record.getRequestId() != null)
+                .map(CustodyRecord::getRequestId)
+                .collect(Collectors.toSet());
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, LocalDateTime> requestTimes = new HashMap<>();
+        for (Object[] row : custodyRecordRepository.findRequestTimes(requestIds)) {
+            requestTimes.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        return requestTimes;
+    }
+
+    private Totals dayTotals(Map<DayKey, Totals> dayTotals, Long itemId, LocalDate day, Long responsibilityId) {
+        Totals totals = dayTotals.computeIfAbsent(new DayKey(itemId, day), key -> new Totals());
+        if (responsibilityId != null) {
+            totals.responsibilityId = responsibilityId;
+        }
+        return totals;
+    }
+
+    private Totals eventTotals(Map<EventKey, Totals> eventTotals, EventWindow window) {
+        return eventTotals.computeIfAbsent(new EventKey(window.eventId(), window.responsibilityId()), key -> new Totals());
+    }
+
+    // Totals of every event the responsibility was ongoing in at the given time
+    private List<Totals> eventsAt(Map<EventKey, Totals> eventTotals, List<EventWindow> windows, LocalDateTime time) {
+        return windows.stream()
+                .filter(window -> window.covers(time))
+                .map(window -> eventTotals(eventTotals, window))
+                .distinct()
+                .toList();
+    }
+
+    private void upsertDayTotals(Map<DayKey, Totals> dayTotals) {
+        if (dayTotals.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<DayKey, Totals>> rows = new ArrayList<>(dayTotals.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, rows, rows.size(), (statement, row) -> {
+            Totals totals = row.getValue();
+            statement.setLong(1, row.getKey().itemId());
+            statement.setDate(2, Date.valueOf(row.getKey().day()));
+            statement.setObject(3, totals.responsibilityId, Types.BIGINT);
+            statement.setLong(4, totals.secondsInUse);
+            statement.setLong(5, totals.assignmentCount);
+            statement.setLong(6, totals.requestCount);
+            statement.setLong(7, totals.denialCount);
+            statement.setLong(8, totals.waitSeconds);
+            statement.setLong(9, totals.waitCount);
+        });
+    }
+
+    private void upsertEventTotals(Map<EventKey, Totals> eventTotals) {
+        if (eventTotals.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<EventKey, Totals>> rows = new ArrayList<>(eventTotals.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_EVENT_SQL, rows, rows.size(), (statement, row) -> {
+            Totals totals = row.getValue();
+            statement.setLong(1, row.getKey().eventId());
+            statement.setLong(2, row.getKey().responsibilityId());
+            statement.setLong(3, totals.secondsInUse);
+            statement.setLong(4, totals.assignmentCount);
+            statement.setLong(5, totals.requestCount);
+            statement.setLong(6, totals.denialCount);
+            statement.setLong(7, totals.waitSeconds);
+            statement.setLong(8, totals.waitCount);
+        });
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.application.service;
+
+import com.project.application.dto.EventUsageRow;
+import com.project.application.dto.UsageDayTotals;
+import com.project.application.dto.UsageTotals;
+import com.project.application.entity.Event;
+import com.project.application.entity.EventPeriod;
+import com.project.application.event.EventStatusChanged;
+import com.project.application.repository.EventPeriodRepository;
+import com.project.application.repository.EventRepository;
+import com.project.application.repository.EventUsageRepository;
+import com.project.application.repository.ItemUsageDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Item utilization analytics: records when events are ongoing, and serves the admin
+ * utilization charts from the pre-aggregated tables built by {@link UtilizationRollupJob}.
+ * The charts never read the custody ledger or the assignment intervals.
+ */
+@Service
+@RequiredArgsConstructor
+public class UtilizationService {
+
+    // Bounds of the admin utilization report
+    private static final int MAX_REPORT_DAYS = 366;
+    private static final int LEAST_USED_ITEM_LIMIT = 10;
+    private static final int EVENT_ROW_LIMIT = 200;
+
+    private final EventPeriodRepository eventPeriodRepository;
+    private final EventRepository eventRepository;
+    private final ItemUsageDailyRepository itemUsageDailyRepository;
+    private final EventUsageRepository eventUsageRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // ========== EVENT PERIODS ==========
+
+    /**
+     * Open or close the event's ongoing period. Runs after the status change committed,
+     * so it writes in its own transaction.
+     */
+    @EventListener
+    public void onEventStatusChanged(EventStatusChanged event) {
+        boolean ongoing = Event.STATUS_ACTIVE.equals(event.status()) || Event.STATUS_EQUIPMENT_RETURN.equals(event.status());
+        newTransaction().executeWithoutResult(status -> {
+            if (ongoing) {
+                openPeriod(event.eventId());
+            } else {
+                closePeriod(event.eventId());
+            }
+        });
+    }
+
+    /**
+     * Align the open periods with the current event statuses, for changes made by bulk
+     * statements that publish no events (admin jobs) and for deleted events
+     */
+    public void reconcileEventPeriods() {
+        newTransaction().executeWithoutResult(status -> {
+            Set<Long> ongoingEventIds = eventRepository.findOngoingEvents().stream()
+                    .map(Event::getEventId)
+                    .collect(Collectors.toSet());
+            LocalDateTime now = LocalDateTime.now();
+
+            for (EventPeriod period : eventPeriodRepository.findByEndedAtIsNull()) {
+                if (!ongoingEventIds.remove(period.getEventId())) {
+                    period.setEndedAt(now);
+                }
+            }
+            // Whatever is left is ongoing without an open period
+            ongoingEventIds.forEach(eventId -> eventPeriodRepository.save(new EventPeriod(eventId, now)));
+        });
+    }
+
+    private void openPeriod(Long eventId) {
+        if (eventPeriodRepository.findFirstByEventIdAndEndedAtIsNull(eventId).isEmpty()) {
+            eventPeriodRepository.save(new EventPeriod(eventId, LocalDateTime.now()));
+        }
+    }
+
+    private void closePeriod(Long eventId) {
+        eventPeriodRepository.findFirstByEventIdAndEndedAtIsNull(eventId)
+                .ifPresent(period -> period.setEndedAt(LocalDateTime.now()));
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    // ========== ADMIN REPORT ==========
+
+    /**
+     * Utilization chart data for the last given number of days (including today):
+     * days (per-day totals), responsibilities, leastUsedItems and events
+     */
+    public Map<String, Object> getUtilizationReport(int days) {
+        int reportDays = Math.max(1, Math.min(days, MAX_REPORT_DAYS));
+        LocalDate toDate = LocalDate.now();
+        LocalDate fromDate = toDate.minusDays(reportDays - 1L);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("fromDate", fromDate.toString());
+        response.put("toDate", toDate.toString());
+        response.put("days", itemUsageDailyRepository.findDayTotals(fromDate, toDate).stream()
+                .map(this::toDayMap).toList());
+        response.put("responsibilities", itemUsageDailyRepository.findResponsibilityTotals(fromDate, toDate).stream()
+                .map(this::toTotalsMap).toList());
+        response.put("leastUsedItems", itemUsageDailyRepository
+                .findLeastUsedItems(fromDate, toDate, Limit.of(LEAST_USED_ITEM_LIMIT)).stream()
+                .map(this::toTotalsMap).toList());
+        response.put("events", eventUsageRepository.findRows(Limit.of(EVENT_ROW_LIMIT)).stream()
+                .map(this::toEventMap).toList());
+        return response;
+    }
+
+    private Map<String, Object> toDayMap(UsageDayTotals day) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("day", day.day().toString());
+        map.put("hoursInUse", round(day.hoursInUse()));
+        map.put("assignments", day.assignmentCount());
+        map.put("requests", day.requestCount());
+        map.put("denials", day.denialCount());
+        return map;
+    }
+
+    private Map<String, Object> toTotalsMap(UsageTotals totals) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", totals.id());
+        map.put("name", totals.name());
+        map.put("hoursInUse", round(totals.hoursInUse()));
+        map.put("assignments", totals.assignmentCount() != null ? totals.assignmentCount() : 0);
+        map.put("requests", totals.requestCount() != null ? totals.requestCount() : 0);
+        map.put("denials", totals.denialCount() != null ? totals.denialCount() : 0);
+        map.put("averageWaitMinutes", totals.averageWaitMinutes() != null ? round(totals.averageWaitMinutes()) : null);
+        return map;
+    }
+
+    private Map<String, Object> toEventMap(EventUsageRow row) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("eventId", row.eventId());
+        map.put("eventName", row.eventName());
+        map.put("responsibilityId", row.responsibilityId());
+        map.put("responsibilityName", row.responsibilityName());
+        map.put("hoursInUse", round(row.hoursInUse()));
+        map.put("assignments", row.assignmentCount());
+        map.put("requests", row.requestCount());
+        map.put("denials", row.denialCount());
+        map.put("averageWaitMinutes", row.averageWaitMinutes() != null ? round(row.averageWaitMinutes()) : null);
+        return map;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
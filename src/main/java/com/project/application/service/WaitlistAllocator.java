@@ -0,0 +1,148 @@
+package com.project.application.service;
+
+import com.project.application.entity.Request;
+import com.project.application.event.DomainEventPublisher;
+import com.project.application.event.ItemAssigned;
+import com.project.application.event.ItemReturned;
+import com.project.application.repository.ItemRepository;
+import com.project.application.repository.RequestRepository;
+import com.project.application.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands returned items to the next user on their waitlist.
+
+ * Pending "request" requests of an item form its waitlist, oldest dateOfIssue first.
+ * Each ItemReturned event records the item id here (after commit), and a
+ * background pass allocates all recorded items together: one query loads the waiters
+ * of every freed item, and each item goes to its first waiter with the same conditional
+ * claim used by manager approvals, so a manager approving at the same moment cannot
+ * double-assign it.
+
+ * Only responsibilities with auto-assign enabled are allocated automatically, and only
+ * while they are in an active event. Otherwise the waiters stay pending, oldest first,
+ * in the manager's request inbox.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistAllocator {
+
+    private final RequestRepository requestRepository;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final EventService eventService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.waitlist.pass-interval-ms:500}")
+    private long passIntervalMillis;
+
+    @Value("${app.waitlist.batch-size:200}")
+    private int batchSize;
+
+    private final Set<Long> freedItemIds = ConcurrentHashMap.newKeySet();
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void startAllocator() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry.gaugeCollectionSize("app.waitlist.pending.items", Tags.empty(), freedItemIds);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-allocator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runPass, passIntervalMillis, passIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopAllocator() {
+        executor.shutdown();
+    }
+
+    /**
+     * Record a freed item; it is allocated by the next pass
+     */
+    @EventListener
+    public void onItemReturned(ItemReturned event) {
+        freedItemIds.add(event.itemId());
+    }
+
+    private void runPass() {
+        try {
+            while (!freedItemIds.isEmpty()) {
+                allocate(nextBatch());
+            }
+        } catch (Exception e) {
+            // Items of a failed pass are dropped; their waiters stay pending for the manager
+            meterRegistry.counter("app.background.failures", "worker", "waitlist-allocator").increment();
+            log.error("Waitlist allocation failed: {}", e.getMessage());
+        }
+    }
+
+    private List<Long> nextBatch() {
+        List<Long> batch = new ArrayList<>();
+        Iterator<Long> iterator = freedItemIds.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    /**
+     * Give each freed item to its first eligible waiter, in one transaction
+     */
+    private void allocate(List<Long> itemIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Waiters of still-free, auto-assign items, grouped by item and oldest first
+            List<Request> waiters = requestRepository.findWaitlistsForAllocation(itemIds);
+            List<Long> assignedRequestIds = new ArrayList<>();
+            Long currentItemId = null;
+
+            for (Request waiter : waiters) {
+                Long itemId = waiter.getItemId();
+                if (itemId.equals(currentItemId)) {
+                    continue;
+                }
+                currentItemId = itemId;
+
+                if (!eventService.isResponsibilityInActiveEvent(waiter.getResponsibilityId())) {
+                    continue;
+                }
+                if (itemRepository.claimIfAvailable(itemId, userRepository.getReferenceById(waiter.getUserId())) == 1) {
+                    assignedRequestIds.add(waiter.getRequestId());
+                    domainEventPublisher.publish(new ItemAssigned(itemId, waiter.getUserId(),
+                            waiter.getResponsibilityId(), waiter.getRequestId()));
+                }
+            }
+
+            // The managers' live queues drop these requests on the ItemAssigned events
+            if (!assignedRequestIds.isEmpty()) {
+                requestRepository.deleteAllByIdInBatch(assignedRequestIds);
+            }
+        });
+    }
+}
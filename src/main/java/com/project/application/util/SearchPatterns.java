@@ -0,0 +1,20 @@
+package com.project.application.util;
+
+public class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    // LIKE pattern matching values that start with the search text (null for a blank search).
+    // A prefix match can use an index on the column, unlike a "contains" match.
+    public static String prefix(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String escaped = search.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.application.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread within a scope
+ * (one HTTP request, see SqlStatementBudgetFilter, or a block measured in a test).
+ * Statements are grouped by their SQL text; JDBC parameters are "?", so the same
+ * statement run for different rows (the N+1 pattern) shows up as one text with a high count.
+ * Scopes nest: a statement is counted in the current scope and every enclosing one.
+ * JdbcTemplate statements bypass Hibernate and are not counted.
+ */
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Counts of one closed scope: total statements and executions per SQL text
+     */
+    public record Stats(int statementCount, Map<String, Integer> countsBySql) {
+
+        // Statements run at least `threshold` times: likely a query per row of an earlier result
+        public Map<String, Integer> repeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            countsBySql.forEach((sql, count) -> {
+                if (count >= threshold) {
+                    repeated.put(sql, count);
+                }
+            });
+            return repeated;
+        }
+    }
+
+    /**
+     * An open counting scope; close it on the thread that opened it
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> countsBySql = new LinkedHashMap<>();
+        private int statementCount;
+        private Stats stats;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            statementCount++;
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+
+        // Stop counting and restore the enclosing scope; the result is kept for later calls
+        public Stats stop() {
+            if (stats == null) {
+                stats = new Stats(statementCount, Map.copyOf(countsBySql));
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            stop();
+        }
+    }
+
+    // Open a scope on the current thread
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // Count the statements prepared while the action runs (for tests and ad hoc profiling)
+    public static Stats measure(Runnable action) {
+        try (Scope scope = open()) {
+            action.run();
+            return scope.stop();
+        }
+    }
+
+    // Called by the statement inspector for every prepared statement; a no-op outside a scope
+    public static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(sql);
+        }
+    }
+}
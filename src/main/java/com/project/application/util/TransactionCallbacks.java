@@ -0,0 +1,33 @@
+package com.project.application.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionCallbacks {
+
+    // Set while after-commit callbacks run; synchronizations registered then would never fire
+    private static final ThreadLocal<Boolean> RUNNING_AFTER_COMMIT = ThreadLocal.withInitial(() -> false);
+
+    private TransactionCallbacks() {
+    }
+
+    // Run action after the current transaction commits (immediately if there is no transaction,
+    // or if called from another after-commit callback, when the commit has already happened)
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !RUNNING_AFTER_COMMIT.get()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    RUNNING_AFTER_COMMIT.set(true);
+                    try {
+                        action.run();
+                    } finally {
+                        RUNNING_AFTER_COMMIT.set(false);
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -50,14 +50,12 @@ document.addEventListener('DOMContentLoaded', function() {
     switchTab('tab1');
 });
 
-// Load data for all metrics
+// Load data for all metrics (single overview request)
 async function loadAllMetricsData() {
     try {
-        const promises = Object.values(chartConfigs).map(config =>
-            fetch(config.url).then(r => r.json())
-        );
-        const [userData, itemData, eventData] = await Promise.all(promises);
-        metricsData = { tab1: userData, tab2: itemData, tab3: eventData };
+        const response = await fetch('/admin/metrics/overview');
+        const data = await response.json();
+        metricsData = { tab1: data.userRoles, tab2: data.itemStatus, tab3: data.eventStatus };
     } catch (error) {
         console.error('Error loading metrics:', error);
     }
@@ -185,21 +183,53 @@ function switchTab(tabId) {
 
 // User Management Variables
 let allUsers = [];
-let filteredUsers = [];
+let userPageCursor = null;
+let userPageHasMore = false;
+let userPageRequest = 0;
+let userControlsInitialized = false;
+let userSearchTimer = null;
 
-// Load user management data
+// Load the first page of users for the current search and role filter
 async function loadUserManagementData() {
+    allUsers = [];
+    userPageCursor = null;
+    await loadUserPage();
+}
+
+// Load the next page of users (keyset cursor from the previous page)
+async function loadMoreUsers() {
+    if (userPageHasMore) {
+        await loadUserPage();
+    }
+}
+
+async function loadUserPage() {
+    const requestNumber = ++userPageRequest;
+    const params = new URLSearchParams({
+        role: document.getElementById('roleFilter')?.value || 'all',
+        search: document.getElementById('userSearch')?.value.trim() || ''
+    });
+    if (userPageCursor) {
+        Object.entries(userPageCursor).forEach(([key, value]) => params.append(key, value));
+    }
+
     try {
-        const response = await fetch('/admin/user-management');
+        const response = await fetch(`/admin/user-management?${params}`);
         const data = await response.json();
 
+        // A newer search was started while this page was loading
+        if (requestNumber !== userPageRequest) {
+            return;
+        }
+
         if (data.error) {
             showUserTableError(data.error);
             return;
         }
 
-        allUsers = data.users || [];
-        filteredUsers = [...allUsers];
+        allUsers = allUsers.concat(data.users || []);
+        userPageCursor = data.nextCursor || null;
+        userPageHasMore = data.hasMore === true;
         renderUserTable();
 
     } catch (error) {
@@ -218,7 +248,12 @@ function renderUserTable() {
     // Hide loading
     loadingElement.style.display = 'none';
 
-    if (filteredUsers.length === 0) {
+    const loadMoreElement = document.getElementById('userTableLoadMore');
+    if (loadMoreElement) {
+        loadMoreElement.style.display = userPageHasMore ? 'block' : 'none';
+    }
+
+    if (allUsers.length === 0) {
         tableWrapperElement.style.display = 'none';
         emptyElement.style.display = 'block';
         return;
@@ -228,7 +263,7 @@ function renderUserTable() {
     emptyElement.style.display = 'none';
     tableWrapperElement.style.display = 'block';
 
-    tbody.innerHTML = filteredUsers.map(user => `
+    tbody.innerHTML = allUsers.map(user => `
         <tr data-user-id="${user.userId}">
             <td class="user-name">${user.fullName}</td>
             <td class="user-email">${user.email}</td>
@@ -341,8 +376,13 @@ async function demoteUser(userId) {
     }
 }
 
-// Search and filter functionality
+// Search and filter functionality (filtered on the server)
 function setupUserManagementControls() {
+    if (userControlsInitialized) {
+        return;
+    }
+    userControlsInitialized = true;
+
     const searchInput = document.getElementById('userSearch');
     const roleFilter = document.getElementById('roleFilter');
 
@@ -351,34 +391,14 @@ function setupUserManagementControls() {
     }
 
     if (roleFilter) {
-        roleFilter.addEventListener('change', filterUsers);
+        roleFilter.addEventListener('change', loadUserManagementData);
     }
 }
 
-// Updated filter function to include email in search
+// Reload the table shortly after the user stops typing
 function filterUsers() {
-    const searchTerm = document.getElementById('userSearch').value.toLowerCase();
-    const roleFilter = document.getElementById('roleFilter').value;
-
-    filteredUsers = allUsers.filter(user => {
-        // Search filter - now includes email
-        const matchesSearch = searchTerm === '' ||
-            user.fullName.toLowerCase().includes(searchTerm) ||
-            user.email.toLowerCase().includes(searchTerm) ||
-            user.phone.includes(searchTerm);
-
-        // Role filter
-        let matchesRole = true;
-        if (roleFilter === 'chief') {
-            matchesRole = user.isChief;
-        } else if (roleFilter === 'non-chief') {
-            matchesRole = !user.isChief;
-        }
-
-        return matchesSearch && matchesRole;
-    });
-
-    renderUserTable();
+    clearTimeout(userSearchTimer);
+    userSearchTimer = setTimeout(loadUserManagementData, 300);
 }
 
 // Update the existing switchTab function to handle user management
@@ -615,24 +635,8 @@ async function confirmDeleteAllUsers() {
         progressSection.style.display = 'block';
         progressText.textContent = 'Deleting all users...';
 
-        // Simulate progress animation (slower for more dramatic effect)
-        let progress = 0;
-        const progressInterval = setInterval(() => {
-            progress += 5;
-            progressFill.style.width = Math.min(progress, 90) + '%';
-        }, 150);
-
-        // Execute the deletion
-        const response = await fetch('/admin/delete-all-users', {
-            method: 'POST'
-        });
-
-        const result = await response.json();
-
-        // Complete progress
-        clearInterval(progressInterval);
-        progressFill.style.width = '100%';
-        progressText.textContent = 'Complete!';
+        // Run as a background job and follow its real progress
+        const result = await runAdminJob('/admin/delete-all-users', progressFill, progressText, 'deleteAllCancelBtn');
 
         // Wait a moment before hiding modal
         setTimeout(() => {
@@ -725,24 +729,8 @@ async function confirmDemoteAllManagers() {
         progressSection.style.display = 'block';
         progressText.textContent = 'Demoting managers...';
 
-        // Simulate progress animation
-        let progress = 0;
-        const progressInterval = setInterval(() => {
-            progress += 10;
-            progressFill.style.width = Math.min(progress, 90) + '%';
-        }, 100);
-
-        // Execute the demotion
-        const response = await fetch('/admin/demote-all-managers', {
-            method: 'POST'
-        });
-
-        const result = await response.json();
-
-        // Complete progress
-        clearInterval(progressInterval);
-        progressFill.style.width = '100%';
-        progressText.textContent = 'Complete!';
+        // Run as a background job and follow its real progress
+        const result = await runAdminJob('/admin/demote-all-managers', progressFill, progressText, 'demoteCancelBtn');
 
         // Wait a moment before hiding modal
         setTimeout(() => {
@@ -862,24 +850,8 @@ async function confirmDemoteAllChiefs() {
         progressSection.style.display = 'block';
         progressText.textContent = 'Demoting chiefs...';
 
-        // Simulate progress animation
-        let progress = 0;
-        const progressInterval = setInterval(() => {
-            progress += 10;
-            progressFill.style.width = Math.min(progress, 90) + '%';
-        }, 100);
-
-        // Execute the demotion
-        const response = await fetch('/admin/demote-all-chiefs', {
-            method: 'POST'
-        });
-
-        const result = await response.json();
-
-        // Complete progress
-        clearInterval(progressInterval);
-        progressFill.style.width = '100%';
-        progressText.textContent = 'Complete!';
+        // Run as a background job and follow its real progress
+        const result = await runAdminJob('/admin/demote-all-chiefs', progressFill, progressText, 'demoteChiefsCancelBtn');
 
         // Wait a moment before hiding modal
         setTimeout(() => {
@@ -907,71 +879,32 @@ async function confirmDemoteAllChiefs() {
 /**
  * Shows modal to confirm returning all in-use items to unavailable status
  */
-async function returnAllInUseItems() {
-    try {
-        // First get info about in-use items
-        const response = await fetch('/admin/items-info');
-        const data = await response.json();
-
-        if (data.error) {
-            Toast.error('Failed to load item information');
-            return;
-        }
-
-        if (data.inUseCount === 0) {
-            Toast.info('No items are currently in use');
-            return;
-        }
-
-        // Update modal with item count
-        document.getElementById('inUseItemCountDisplay').textContent = data.inUseCount;
-
-        // Show modal
-        document.getElementById('returnInUseItemsModal').classList.add('show');
-
-    } catch (error) {
-        console.error('Error loading item info:', error);
-        Toast.error('Failed to load item information');
-    }
+function returnAllInUseItems() {
+    return showItemBulkModal('inUseCount', 'No items are currently in use',
+        'inUseItemCountDisplay', 'returnInUseItemsModal');
 }
 
 /**
  * Shows modal to confirm making all items unavailable
  */
-async function makeAllItemsUnavailable() {
-    try {
-        // First get info about all items
-        const response = await fetch('/admin/items-info');
-        const data = await response.json();
-
-        if (data.error) {
-            Toast.error('Failed to load item information');
-            return;
-        }
-
-        if (data.totalItemCount === 0) {
-            Toast.info('No items found in system');
-            return;
-        }
-
-        // Update modal with item count
-        document.getElementById('allItemsUnavailableCountDisplay').textContent = data.totalItemCount;
-
-        // Show modal
-        document.getElementById('makeItemsUnavailableModal').classList.add('show');
-
-    } catch (error) {
-        console.error('Error loading item info:', error);
-        Toast.error('Failed to load item information');
-    }
+function makeAllItemsUnavailable() {
+    return showItemBulkModal('totalItemCount', 'No items found in system',
+        'allItemsUnavailableCountDisplay', 'makeItemsUnavailableModal');
 }
 
 /**
  * Shows modal to confirm deleting all items
  */
-async function deleteAllItems() {
+function deleteAllItems() {
+    return showItemBulkModal('totalItemCount', 'No items found to delete',
+        'deleteAllItemsCountDisplay', 'deleteAllItemsModal');
+}
+
+/**
+ * Loads the item counts (one request) and shows a bulk action modal with the relevant count
+ */
+async function showItemBulkModal(countKey, emptyMessage, countDisplayId, modalId) {
     try {
-        // First get info about all items
         const response = await fetch('/admin/items-info');
         const data = await response.json();
 
@@ -980,16 +913,16 @@ async function deleteAllItems() {
             return;
         }
 
-        if (data.totalItemCount === 0) {
-            Toast.info('No items found to delete');
+        if (data[countKey] === 0) {
+            Toast.info(emptyMessage);
             return;
         }
 
         // Update modal with item count
-        document.getElementById('deleteAllItemsCountDisplay').textContent = data.totalItemCount;
+        document.getElementById(countDisplayId).textContent = data[countKey];
 
         // Show modal
-        document.getElementById('deleteAllItemsModal').classList.add('show');
+        document.getElementById(modalId).classList.add('show');
 
     } catch (error) {
         console.error('Error loading item info:', error);
@@ -1081,21 +1014,8 @@ async function executeItemBulkOperation(url, progressSectionId, progressFillId,
         progressSection.style.display = 'block';
         progressText.textContent = progressMessage;
 
-        // Simulate progress animation
-        let progress = 0;
-        const progressInterval = setInterval(() => {
-            progress += 10;
-            progressFill.style.width = Math.min(progress, 90) + '%';
-        }, 100);
-
-        // Execute the operation
-        const response = await fetch(url, { method: 'POST' });
-        const result = await response.json();
-
-        // Complete progress
-        clearInterval(progressInterval);
-        progressFill.style.width = '100%';
-        progressText.textContent = 'Complete!';
+        // Run as a background job and follow its real progress
+        const result = await runAdminJob(url, progressFill, progressText, cancelBtnId);
 
         // Wait before hiding modal
         setTimeout(() => {
@@ -1296,21 +1216,8 @@ async function executeEventBulkOperation(url, progressSectionId, progressFillId,
         progressSection.style.display = 'block';
         progressText.textContent = progressMessage;
 
-        // Simulate progress animation
-        let progress = 0;
-        const progressInterval = setInterval(() => {
-            progress += 10;
-            progressFill.style.width = Math.min(progress, 90) + '%';
-        }, 100);
-
-        // Execute the operation
-        const response = await fetch(url, { method: 'POST' });
-        const result = await response.json();
-
-        // Complete progress
-        clearInterval(progressInterval);
-        progressFill.style.width = '100%';
-        progressText.textContent = 'Complete!';
+        // Run as a background job and follow its real progress
+        const result = await runAdminJob(url, progressFill, progressText, cancelBtnId);
 
         // Wait before hiding modal
         setTimeout(() => {
@@ -1350,4 +1257,188 @@ function resetModalProgress(progressSectionId, progressFillId, progressTextId, c
         confirmBtn.disabled = false;
         confirmBtn.textContent = confirmBtnText;
     }
-}
\ No newline at end of file
+}
+
+// ========== BACKGROUND JOBS ==========
+
+const JOB_POLL_INTERVAL_MS = 500;
+
+/**
+ * Submits a bulk action as a background job and polls its status until it finishes.
+ * The progress bar shows committed chunks; while the job runs the modal's cancel
+ * button becomes a "Stop" button that cancels the job between chunks.
+ * Resolves with the final job status ({success, message, count, status, ...}).
+ */
+async function runAdminJob(url, progressFill, progressText, cancelBtnId) {
+    const submitResponse = await fetch(url, { method: 'POST' });
+    let job = await submitResponse.json();
+
+    if (!job.jobId) {
+        return job;
+    }
+
+    const cancelBtn = document.getElementById(cancelBtnId);
+    const originalCancelText = cancelBtn ? cancelBtn.textContent : null;
+    const originalCancelHandler = cancelBtn ? cancelBtn.onclick : null;
+
+    if (cancelBtn) {
+        cancelBtn.disabled = false;
+        cancelBtn.textContent = 'Stop';
+        cancelBtn.onclick = () => cancelAdminJob(job.jobId, cancelBtn);
+    }
+
+    try {
+        while (!job.finished) {
+            updateJobProgress(job, progressFill, progressText);
+            await new Promise(resolve => setTimeout(resolve, JOB_POLL_INTERVAL_MS));
+
+            const statusResponse = await fetch(`/admin/jobs/${job.jobId}`);
+            job = await statusResponse.json();
+
+            if (!job.jobId) {
+                // Job is no longer known to the server
+                return job;
+            }
+        }
+    } finally {
+        if (cancelBtn) {
+            cancelBtn.disabled = true;
+            cancelBtn.textContent = originalCancelText;
+            cancelBtn.onclick = originalCancelHandler;
+        }
+    }
+
+    updateJobProgress(job, progressFill, progressText);
+    return job;
+}
+
+/**
+ * Requests cancellation of a running job (takes effect after the current chunk)
+ */
+async function cancelAdminJob(jobId, cancelBtn) {
+    cancelBtn.disabled = true;
+    cancelBtn.textContent = 'Stopping...';
+
+    try {
+        const response = await fetch(`/admin/jobs/${jobId}/cancel`, { method: 'POST' });
+        const result = await response.json();
+        if (!result.success) {
+            Toast.warning(result.message);
+        }
+    } catch (error) {
+        console.error('Error cancelling job:', error);
+        Toast.error('Failed to cancel operation');
+    }
+}
+
+/**
+ * Renders job progress into a modal progress bar
+ */
+function updateJobProgress(job, progressFill, progressText) {
+    progressFill.style.width = (job.percent || 0) + '%';
+
+    if (job.finished) {
+        progressText.textContent = job.status === 'COMPLETED' ? 'Complete!' : job.message;
+    } else if (job.status === 'QUEUED') {
+        progressText.textContent = 'Waiting to start...';
+    } else if (job.totalRows > 0) {
+        progressText.textContent = `Processed ${job.processedRows} of ${job.totalRows} rows...`;
+    }
+}
+
+// ========== UTILIZATION TAB ==========
+
+let utilizationChart = null;
+
+// Load the utilization report when tab 4 is activated
+const switchTabBeforeUtilization = switchTab;
+switchTab = function(tabId) {
+    switchTabBeforeUtilization(tabId);
+
+    if (tabId === 'tab4' && !utilizationChart) {
+        loadUtilizationData();
+    }
+};
+
+/**
+ * Loads the utilization report for the selected range (served from the rollup tables)
+ */
+async function loadUtilizationData() {
+    const days = document.getElementById('utilizationRange').value;
+
+    try {
+        const response = await fetch(`/admin/metrics/utilization?days=${days}`);
+        const report = await response.json();
+        if (report.error) {
+            Toast.error(report.error);
+        }
+
+        renderUtilizationChart(report.days || []);
+        renderUtilizationRows('utilizationResponsibilityBody', report.responsibilities || [], 5,
+            row => [row.name, row.hoursInUse, row.requests, row.denials, row.averageWaitMinutes ?? '-']);
+        renderUtilizationRows('utilizationIdleItemsBody', report.leastUsedItems || [], 4,
+            row => [row.name, row.hoursInUse, row.assignments, row.requests]);
+        renderUtilizationRows('utilizationEventsBody', report.events || [], 6,
+            row => [row.eventName, row.responsibilityName, row.hoursInUse, row.requests, row.denials,
+                row.averageWaitMinutes ?? '-']);
+
+    } catch (error) {
+        console.error('Error loading utilization:', error);
+        Toast.error('Failed to load utilization');
+    }
+}
+
+/**
+ * Bar chart of hours in use per day, with requests and denials as lines on a second axis
+ */
+function renderUtilizationChart(days) {
+    const ctx = document.getElementById('utilizationChart').getContext('2d');
+    if (utilizationChart) utilizationChart.destroy();
+
+    utilizationChart = new Chart(ctx, {
+        type: 'bar',
+        data: {
+            labels: days.map(day => day.day),
+            datasets: [
+                { label: 'Hours in use', data: days.map(day => day.hoursInUse), backgroundColor: '#ffc107', yAxisID: 'hours' },
+                { label: 'Requests', data: days.map(day => day.requests), type: 'line', borderColor: '#007bff',
+                    backgroundColor: '#007bff', yAxisID: 'counts' },
+                { label: 'Denials', data: days.map(day => day.denials), type: 'line', borderColor: '#dc3545',
+                    backgroundColor: '#dc3545', yAxisID: 'counts' }
+            ]
+        },
+        options: {
+            responsive: true,
+            maintainAspectRatio: false,
+            scales: {
+                hours: { type: 'linear', position: 'left', beginAtZero: true, title: { display: true, text: 'Hours' } },
+                counts: { type: 'linear', position: 'right', beginAtZero: true, grid: { drawOnChartArea: false },
+                    title: { display: true, text: 'Requests' } }
+            }
+        }
+    });
+}
+
+/**
+ * Fills a utilization table body; cell values are set as text
+ */
+function renderUtilizationRows(tbodyId, rows, columnCount, toCells) {
+    const tbody = document.getElementById(tbodyId);
+    tbody.innerHTML = '';
+
+    if (rows.length === 0) {
+        const emptyRow = tbody.insertRow();
+        const cell = emptyRow.insertCell();
+        cell.colSpan = columnCount;
+        cell.className = 'utilization-empty';
+        cell.textContent = 'No usage recorded yet';
+        return;
+    }
+
+    rows.forEach(row => {
+        const tableRow = tbody.insertRow();
+        toCells(row).forEach(value => {
+            tableRow.insertCell().textContent = value;
+        });
+    });
+}
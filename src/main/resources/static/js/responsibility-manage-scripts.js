@@ -120,6 +120,52 @@ function confirmAddItem() {
     document.getElementById('addItemForm').submit();
 }
 
+// Item Import Functions
+function showImportItemsPicker() {
+    document.getElementById('importItemsInput').click();
+}
+
+async function importItemsFile(input) {
+    const file = input.files[0];
+    input.value = '';
+    if (!file) {
+        return;
+    }
+
+    const isTsv = file.name.toLowerCase().endsWith('.tsv');
+    showToast('Importing ' + file.name + '...', 'info');
+
+    try {
+        // The file is sent as the raw request body so the server can read it as a stream
+        const response = await fetch(input.dataset.importUrl, {
+            method: 'POST',
+            headers: { 'Content-Type': isTsv ? 'text/tab-separated-values' : 'text/csv' },
+            body: file
+        });
+        const result = await response.json();
+
+        if (!result.success) {
+            showToast(result.message, 'error');
+            return;
+        }
+
+        if (result.rejectedCount > 0) {
+            console.warn('Rejected import rows:', result.errors);
+            const firstError = result.errors[0];
+            showToast(result.message + ' (line ' + firstError.lineNumber + ': ' + firstError.message + ')', 'warning');
+        } else {
+            showToast(result.message, 'success');
+        }
+
+        if (result.importedCount > 0) {
+            setTimeout(() => window.location.reload(), 1500);
+        }
+    } catch (error) {
+        console.error('Error importing items:', error);
+        showToast('Failed to import items', 'error');
+    }
+}
+
 // Edit Item Modal Functions
 function showEditItemModal(itemId, itemName, itemStatus) {
     hideModalError('editItem');
@@ -342,6 +388,163 @@ function showDenyRequestModal(requestId, userName, itemName, requestType) {
     showConfirmationModal(title, message, buttonText, buttonClass, action, { requestId });
 }
 
+// Batch Approve/Deny Functions
+function toggleAllRequests(checked) {
+    document.querySelectorAll('.request-select').forEach(checkbox => checkbox.checked = checked);
+}
+
+function decideSelectedRequests(decision) {
+    const requestIds = Array.from(document.querySelectorAll('.request-select:checked'))
+        .map(checkbox => checkbox.value);
+
+    if (requestIds.length === 0) {
+        showToast('Select at least one request first', 'warning');
+        return;
+    }
+
+    const isApprove = decision === 'approve';
+    const title = isApprove ? 'Approve Selected Requests' : 'Deny Selected Requests';
+    const message = isApprove
+        ? `Approve ${requestIds.length} selected requests? When several requests are for the same item, the earliest one is approved.`
+        : `Deny ${requestIds.length} selected requests?`;
+    const buttonText = isApprove ? 'Approve All' : 'Deny All';
+    const buttonClass = isApprove ? 'btn-assign' : 'btn-remove';
+
+    showConfirmationModal(title, message, buttonText, buttonClass, submitRequestDecisions, { decision, requestIds });
+}
+
+async function submitRequestDecisions(data) {
+    const responsibilityElement = document.querySelector('[data-responsibility-id]');
+    const responsibilityId = responsibilityElement ? responsibilityElement.dataset.responsibilityId : '';
+
+    const body = new URLSearchParams();
+    body.append('action', data.decision);
+    data.requestIds.forEach(requestId => body.append('requestIds', requestId));
+
+    try {
+        const response = await fetch(`/responsibility-manage/${responsibilityId}/decide-requests`, {
+            method: 'POST',
+            body: body
+        });
+        const result = await response.json();
+
+        if (!result.success) {
+            showToast(result.message, 'error');
+            return;
+        }
+
+        if (result.failedCount > 0) {
+            console.warn('Requests that could not be processed:', result.outcomes.filter(outcome => !outcome.success));
+        }
+        showToast(result.message, result.failedCount > 0 ? 'warning' : 'success');
+        setTimeout(() => window.location.href = `/responsibility-manage/${responsibilityId}?tab=requests`, 1500);
+    } catch (error) {
+        console.error('Error processing requests:', error);
+        showToast('Failed to process requests', 'error');
+    }
+}
+
+// Live Request Queue (Server-Sent Events)
+document.addEventListener('DOMContentLoaded', function() {
+    const requestsBody = document.getElementById('requestsTableBody');
+    const responsibilityElement = document.querySelector('[data-responsibility-id]');
+    if (!requestsBody || !responsibilityElement || typeof EventSource === 'undefined') {
+        return;
+    }
+
+    const stream = new EventSource(`/responsibility-manage/${responsibilityElement.dataset.responsibilityId}/request-stream`);
+    stream.addEventListener('request-created', event => addRequestRow(JSON.parse(event.data)));
+    stream.addEventListener('return-requested', event => addRequestRow(JSON.parse(event.data)));
+    stream.addEventListener('request-approved', event => removeRequestRows(JSON.parse(event.data).requestIds));
+    stream.addEventListener('request-denied', event => removeRequestRows(JSON.parse(event.data).requestIds));
+});
+
+function capitalize(text) {
+    return text ? text.charAt(0).toUpperCase() + text.slice(1) : '';
+}
+
+function formatRequestDate(isoDate) {
+    const date = new Date(isoDate);
+    const datePart = date.toLocaleDateString('en-US', { month: 'short', day: '2-digit', year: 'numeric' });
+    const timePart = date.toLocaleTimeString('en-GB', { hour: '2-digit', minute: '2-digit' });
+    return `${datePart} ${timePart}`;
+}
+
+// Insert a pushed request at the top of the table (newest first), same markup as the server-rendered rows
+function addRequestRow(request) {
+    const requestsBody = document.getElementById('requestsTableBody');
+    if (requestsBody.querySelector(`tr[data-request-id="${request.requestId}"]`)) {
+        return;
+    }
+
+    const userName = `${capitalize(request.userFirstName)} ${capitalize(request.userLastName)}`;
+    const row = document.createElement('tr');
+    row.dataset.requestId = request.requestId;
+    row.innerHTML = `
+        <td data-label="Select" class="request-select-cell">
+            <input type="checkbox" class="request-select">
+        </td>
+        <td data-label="User"><span class="user-name"></span></td>
+        <td data-label="Item"><span class="item-name"></span></td>
+        <td data-label="Type"><span class="request-type-badge"></span></td>
+        <td data-label="Date"><span class="request-date"></span></td>
+        <td data-label="Actions">
+            <div class="request-actions">
+                <button class="btn-approve">Approve</button>
+                <button class="btn-deny">Deny</button>
+            </div>
+        </td>`;
+
+    // Text is set through textContent so names are never parsed as HTML
+    row.querySelector('.request-select').value = request.requestId;
+    row.querySelector('.user-name').textContent = userName;
+    row.querySelector('.item-name').textContent = request.itemName;
+    const typeBadge = row.querySelector('.request-type-badge');
+    typeBadge.textContent = capitalize(request.requestType);
+    typeBadge.classList.add(request.requestType === 'request' ? 'type-request' : 'type-return');
+    row.querySelector('.request-date').textContent = formatRequestDate(request.dateOfIssue);
+    row.querySelector('.btn-approve').onclick = () =>
+        showApproveRequestModal(request.requestId, userName, request.itemName, request.requestType);
+    row.querySelector('.btn-deny').onclick = () =>
+        showDenyRequestModal(request.requestId, userName, request.itemName, request.requestType);
+
+    requestsBody.prepend(row);
+    updateRequestCount();
+}
+
+function removeRequestRows(requestIds) {
+    requestIds.forEach(requestId => {
+        const row = document.querySelector(`#requestsTableBody tr[data-request-id="${requestId}"]`);
+        if (row) {
+            row.remove();
+        }
+    });
+    updateRequestCount();
+}
+
+// Keep the counters, bulk buttons and empty state in line with the rows on the page
+function updateRequestCount() {
+    const count = document.querySelectorAll('#requestsTableBody tr').length;
+    const hasRequests = count > 0;
+
+    const countValue = document.getElementById('requestCountValue');
+    if (countValue) {
+        countValue.textContent = count;
+    }
+    const tabCount = document.getElementById('requestsTabCount');
+    if (tabCount) {
+        tabCount.textContent = count;
+        tabCount.style.display = hasRequests ? '' : 'none';
+    }
+
+    document.getElementById('requestsTableWrapper').style.display = hasRequests ? '' : 'none';
+    document.getElementById('noRequestsMessage').style.display = hasRequests ? 'none' : '';
+    const bulkActions = document.querySelector('.requests-bulk-actions');
+    if (bulkActions) {
+        bulkActions.style.display = hasRequests ? '' : 'none';
+    }
+}
+
 // Helper function to add activeTab parameter to form
 function addTabParameterToForm(form) {
     // Check if activeTab input already exists, if not create it
@@ -221,4 +221,146 @@ document.addEventListener('DOMContentLoaded', function() {
             }
         }, 300);
     }
-});
\ No newline at end of file
+});
+/**
+ * Live item availability and event status (Server-Sent Events).
+ * Each row keeps its state in data attributes; a pushed change updates the state
+ * and re-renders the row's status and buttons with the same rules as the template.
+ */
+document.addEventListener('DOMContentLoaded', function() {
+    const itemsTable = document.getElementById('itemsTable');
+    if (!itemsTable || typeof EventSource === 'undefined') {
+        return;
+    }
+
+    const stream = new EventSource(`/responsibility/view/${itemsTable.dataset.responsibilityId}/stream`);
+    stream.addEventListener('item-changed', event => applyItemChange(JSON.parse(event.data)));
+    stream.addEventListener('event-status-changed', event => applyEventStatusChange(JSON.parse(event.data)));
+});
+
+function applyItemChange(item) {
+    const itemsTable = document.getElementById('itemsTable');
+    const row = itemsTable.querySelector(`tr[data-item-id="${item.itemId}"]`);
+    if (!row) {
+        return;
+    }
+
+    const userId = itemsTable.dataset.userId;
+    const ownerId = item.userId != null ? String(item.userId) : '';
+
+    // Getting the item consumes the user's request; a released item has no pending return
+    if (ownerId === userId) {
+        row.dataset.requested = 'false';
+    }
+    if (row.dataset.ownerId === userId && ownerId !== userId) {
+        row.dataset.returnRequested = 'false';
+    }
+
+    row.dataset.itemName = item.itemName;
+    row.dataset.status = item.status;
+    row.dataset.ownerId = ownerId;
+    row.dataset.ownerName = ownerId ? `${item.userFirstName} ${item.userLastName}` : '';
+
+    renderItemRow(row);
+    updateAvailableItemsStat();
+}
+
+function applyEventStatusChange(update) {
+    const itemsTable = document.getElementById('itemsTable');
+    const eligibility = update.responsibilities[itemsTable.dataset.responsibilityId];
+    if (!eligibility) {
+        return;
+    }
+
+    itemsTable.dataset.canRequest = String(eligibility.canRequestItems);
+    itemsTable.dataset.canReturn = String(eligibility.canReturnItems);
+    itemsTable.querySelectorAll('tbody tr[data-item-id]').forEach(renderItemRow);
+
+    if (typeof showToast !== 'undefined') {
+        showToast(`Event "${update.eventName}" is now ${update.status}`, 'info');
+    }
+}
+
+function capitalizeWords(text) {
+    return text.split(' ').map(word => word.charAt(0).toUpperCase() + word.slice(1)).join(' ');
+}
+
+function renderItemRow(row) {
+    const itemsTable = document.getElementById('itemsTable');
+    const status = row.dataset.status;
+    const ownerName = row.dataset.ownerName;
+
+    const statusBadge = row.querySelector('.item-status');
+    statusBadge.className = 'item-status ' + (status === 'Available' ? 'status-available' :
+        status === 'In Use' ? 'status-in-use' : 'status-unavailable');
+    statusBadge.textContent = status === 'In Use' && ownerName ? `In Use by ${capitalizeWords(ownerName)}` : status;
+
+    const actions = row.querySelector('.item-actions');
+    actions.replaceChildren();
+    if (itemsTable.dataset.canAct !== 'true') {
+        return;
+    }
+
+    const canRequest = itemsTable.dataset.canRequest === 'true';
+    const canReturn = itemsTable.dataset.canReturn === 'true';
+    const ownedByUser = row.dataset.ownerId === itemsTable.dataset.userId;
+    const itemId = row.dataset.itemId;
+    const itemName = row.dataset.itemName;
+
+    if (status === 'Available') {
+        if (!canRequest) {
+            actions.appendChild(disabledLabel('request-disabled', 'Request Unavailable',
+                'Requests not available - no active events for this responsibility'));
+        } else if (row.dataset.requested === 'true') {
+            actions.appendChild(actionButton('request-btn requested', 'Requested'));
+        } else {
+            actions.appendChild(actionButton('request-btn', 'Request', () => showRequestModal(itemId, itemName)));
+        }
+    } else if (status === 'In Use' && !ownedByUser && canRequest) {
+        if (row.dataset.requested === 'true') {
+            actions.appendChild(actionButton('request-btn requested', 'On Waitlist'));
+        } else {
+            actions.appendChild(actionButton('request-btn waitlist', 'Join Waitlist', () => showRequestModal(itemId, itemName)));
+        }
+    } else if (status === 'In Use' && ownedByUser) {
+        if (!canReturn) {
+            actions.appendChild(disabledLabel('return-disabled', 'Return Unavailable',
+                'Returns not available - no active or return-mode events for this responsibility'));
+        } else if (row.dataset.returnRequested === 'true') {
+            actions.appendChild(actionButton('return-btn return-requested', 'Return Requested'));
+        } else {
+            actions.appendChild(actionButton('return-btn', 'Return', () => showReturnModal(itemId, itemName)));
+        }
+    }
+}
+
+// A button without a click handler is rendered disabled
+function actionButton(className, text, onClick) {
+    const button = document.createElement('button');
+    button.className = className;
+    button.textContent = text;
+    if (onClick) {
+        button.onclick = onClick;
+    } else {
+        button.disabled = true;
+    }
+    return button;
+}
+
+function disabledLabel(className, text, title) {
+    const label = document.createElement('span');
+    label.className = className;
+    label.title = title;
+    label.textContent = text;
+    return label;
+}
+
+function updateAvailableItemsStat() {
+    const stat = document.getElementById('availableItemsStat');
+    if (!stat) {
+        return;
+    }
+    const rows = document.querySelectorAll('#itemsTable tbody tr[data-item-id]');
+    const available = Array.from(rows).filter(row => row.dataset.status === 'Available' && !row.dataset.ownerId).length;
+    stat.textContent = `${available}/${rows.length}`;
+}
@@ -0,0 +1,115 @@
+package com.project.application.config;
+
+import com.project.application.dto.ItemSummary;
+import com.project.application.repository.ItemRepository;
+import com.project.application.support.PendingRequestFixture;
+import com.project.application.support.PendingRequestFixture.Seed;
+import com.project.application.support.TestDatabaseConfiguration;
+import com.project.application.util.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.project.application.support.PendingRequestFixture.LARGE;
+import static com.project.application.support.PendingRequestFixture.SMALL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * SQL statement budget of real endpoints, read from the stats the filter leaves in the
+ * request attribute, and the repeated-statement (N+1) detection behind its log warning.
+ * Runs against a MySQL container (skipped without Docker); each test is rolled back.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@Import({TestDatabaseConfiguration.class, PendingRequestFixture.class})
+@Transactional
+class SqlStatementBudgetFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PendingRequestFixture fixture;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${app.sql-budget.max-statements}")
+    private int maxStatements;
+
+    @Value("${app.sql-budget.repeat-threshold}")
+    private int repeatThreshold;
+
+    @Test
+    void responsibilityViewStaysWithinStatementBudget() throws Exception {
+        Seed small = fixture.seed(SMALL);
+        Seed large = fixture.seed(LARGE);
+
+        SqlStatementCounter.Stats smallStats = viewResponsibility(small);
+        SqlStatementCounter.Stats largeStats = viewResponsibility(large);
+
+        assertTrue(smallStats.statementCount() > 0);
+        assertTrue(largeStats.statementCount() <= maxStatements,
+                "ran " + largeStats.statementCount() + " statements, budget " + maxStatements);
+        assertEquals(smallStats.statementCount(), largeStats.statementCount());
+        assertTrue(largeStats.repeatedStatements(repeatThreshold).isEmpty());
+    }
+
+    @Test
+    void statementRunOncePerRowIsReportedAsRepeated() {
+        Seed seed = fixture.seed(LARGE);
+        List<Long> itemIds = itemRepository.findSummariesByResponsibilityId(seed.responsibilityId()).stream()
+                .map(ItemSummary::itemId)
+                .toList();
+        entityManager.clear();
+
+        // One lookup per row of an earlier result: the N+1 pattern the filter warns about
+        SqlStatementCounter.Stats stats = SqlStatementCounter.measure(() ->
+                itemIds.forEach(itemId -> itemRepository.findById(itemId)));
+
+        Map<String, Integer> repeated = stats.repeatedStatements(repeatThreshold);
+        assertEquals(1, repeated.size());
+        assertEquals(LARGE, repeated.values().iterator().next());
+        assertEquals(LARGE, stats.statementCount());
+    }
+
+    // ========== HELPERS ==========
+
+    /**
+     * GET the responsibility page as the seeded user, from an empty persistence context
+     */
+    private SqlStatementCounter.Stats viewResponsibility(Seed seed) throws Exception {
+        entityManager.clear();
+        MvcResult result = mockMvc.perform(get("/responsibility/view/{id}", seed.responsibilityId())
+                        .with(user(seed.principal())))
+                .andExpect(status().isOk())
+                .andExpect(view().name("responsibility-view"))
+                .andReturn();
+
+        SqlStatementCounter.Stats stats = (SqlStatementCounter.Stats)
+                result.getRequest().getAttribute(SqlStatementBudgetFilter.STATS_ATTRIBUTE);
+        assertNotNull(stats);
+        return stats;
+    }
+}
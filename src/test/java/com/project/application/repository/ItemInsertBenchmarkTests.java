@@ -0,0 +1,93 @@
+package com.project.application.repository;
+
+import com.project.application.entity.Item;
+import com.project.application.entity.Responsibility;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput of 10k items with saveAll, with JDBC batching (hibernate.jdbc.batch_size)
+ * and with batching switched off for the session (one round trip per row, as with IDENTITY ids).
+
+ * Needs the configured MySQL database, so it only runs on request:
+ *   ./mvnw test -Dtest=ItemInsertBenchmarkTests -Dbenchmark=true
+ * Each run is rolled back after an explicit flush, so no items are left behind
+ * (the id generator tables do move forward).
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ItemInsertBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemInsertBenchmarkTests.class);
+
+    private static final int ITEM_COUNT = 10_000;
+    private static final int WARMUP_ITEM_COUNT = 1_000;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ResponsibilityRepository responsibilityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedInsertsBeatRowByRowInserts() {
+        insertAndRollBack(WARMUP_ITEM_COUNT, null);
+        insertAndRollBack(WARMUP_ITEM_COUNT, 1);
+
+        double rowByRow = insertAndRollBack(ITEM_COUNT, 1);
+        double batched = insertAndRollBack(ITEM_COUNT, null);
+
+        log.info("saveAll of {} items: row by row {} rows/s, batched {} rows/s ({}x)",
+                ITEM_COUNT, Math.round(rowByRow), Math.round(batched), String.format("%.1f", batched / rowByRow));
+        assertTrue(batched > rowByRow, "JDBC batching should insert faster than one statement per row");
+    }
+
+    /**
+     * Insert and flush the items in one transaction that is then rolled back; returns rows/sec.
+     * A null batch size keeps the configured hibernate.jdbc.batch_size.
+     */
+    private double insertAndRollBack(int itemCount, Integer jdbcBatchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Double rowsPerSecond = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            Session session = entityManager.unwrap(Session.class);
+            if (jdbcBatchSize != null) {
+                session.setJdbcBatchSize(jdbcBatchSize);
+            }
+
+            Responsibility responsibility = responsibilityRepository.save(new Responsibility("Benchmark " + System.nanoTime()));
+            List<Item> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new Item("Benchmark item " + i, "Available", responsibility));
+            }
+
+            long started = System.nanoTime();
+            itemRepository.saveAll(items);
+            entityManager.flush();
+            long elapsedNanos = System.nanoTime() - started;
+
+            entityManager.clear();
+            return itemCount * 1_000_000_000.0 / elapsedNanos;
+        });
+        return rowsPerSecond != null ? rowsPerSecond : 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.application.repository;
+
+import com.project.application.dto.PendingRequestRow;
+import com.project.application.support.PendingRequestFixture;
+import com.project.application.support.PendingRequestFixture.Seed;
+import com.project.application.support.TestDatabaseConfiguration;
+import com.project.application.util.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.project.application.support.PendingRequestFixture.LARGE;
+import static com.project.application.support.PendingRequestFixture.SMALL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The pending request read models load user, item and responsibility names in the
+ * query itself: the statement count must not grow with the number of rows.
+ * Runs against a MySQL container (skipped without Docker); each test is rolled back.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({TestDatabaseConfiguration.class, PendingRequestFixture.class})
+@Transactional
+class RequestRowQueryTests {
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private PendingRequestFixture fixture;
+
+    @Test
+    void responsibilityInboxRunsOneStatementForAnyRowCount() {
+        Seed small = fixture.seed(SMALL);
+        Seed large = fixture.seed(LARGE);
+
+        int smallCount = countStatements(() -> requestRepository.findRowsByResponsibilityId(small.responsibilityId()), SMALL);
+        int largeCount = countStatements(() -> requestRepository.findRowsByResponsibilityId(large.responsibilityId()), LARGE);
+
+        assertEquals(1, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    void userRequestsRunOneStatementForAnyRowCount() {
+        Seed small = fixture.seed(SMALL);
+        Seed large = fixture.seed(LARGE);
+
+        int smallCount = countStatements(() -> requestRepository.findRowsByUserId(small.userId()), SMALL);
+        int largeCount = countStatements(() -> requestRepository.findRowsByUserId(large.userId()), LARGE);
+
+        assertEquals(1, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    // ========== HELPERS ==========
+
+    /**
+     * Statements run by the query (the rows are DTOs, so reading their names runs none)
+     */
+    private int countStatements(Supplier<List<PendingRequestRow>> query, int expectedRows) {
+        AtomicReference<List<PendingRequestRow>> rows = new AtomicReference<>();
+        SqlStatementCounter.Stats stats = SqlStatementCounter.measure(() -> rows.set(query.get()));
+
+        assertEquals(expectedRows, rows.get().size());
+        return stats.statementCount();
+    }
+}
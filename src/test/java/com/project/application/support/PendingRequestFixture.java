@@ -0,0 +1,79 @@
+package com.project.application.support;
+
+import com.project.application.entity.Item;
+import com.project.application.entity.Request;
+import com.project.application.entity.Responsibility;
+import com.project.application.entity.Role;
+import com.project.application.entity.User;
+import com.project.application.repository.ItemRepository;
+import com.project.application.repository.RequestRepository;
+import com.project.application.repository.ResponsibilityRepository;
+import com.project.application.repository.RoleRepository;
+import com.project.application.repository.UserRepository;
+import com.project.application.security.UserPrincipal;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds a responsibility whose items all have a pending request from one user, for tests
+ * that check the statement count does not grow with the number of rows. Call it inside
+ * the test's transaction, so the rows are rolled back.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class PendingRequestFixture {
+
+    // Row counts compared by the statement-count tests
+    public static final int SMALL = 5;
+    public static final int LARGE = 10 * SMALL;
+
+    private final RequestRepository requestRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final ResponsibilityRepository responsibilityRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * The seeded responsibility and requester, with a principal to sign in as that user
+     */
+    public record Seed(Long responsibilityId, Long userId, UserPrincipal principal) {
+    }
+
+    /**
+     * One responsibility and one user with a pending request for each of `rows` items.
+     * The rows are flushed and the persistence context cleared, so measured queries start cold.
+     */
+    public Seed seed(int rows) {
+        String suffix = Long.toString(System.nanoTime());
+        Role userRole = roleRepository.findByName("user").orElseGet(() -> roleRepository.save(new Role("user")));
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("Requester");
+        user.setEmailAddress("requester" + suffix + "@example.com");
+        user.setPhoneNumber(suffix.substring(suffix.length() - 10));
+        user.setPassword("not-a-real-hash");
+        user.setRole(userRole);
+        userRepository.save(user);
+
+        Responsibility responsibility = responsibilityRepository.save(new Responsibility("Test " + suffix));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            items.add(new Item("Test item " + i, "Available", responsibility));
+        }
+        itemRepository.saveAll(items);
+        requestRepository.saveAll(items.stream().map(item -> new Request(user, item, "request")).toList());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        UserPrincipal principal = new UserPrincipal(user.getUserId(), user.getEmailAddress(), user.getPassword(),
+                user.getFirstName(), user.getLastName(), userRole.getName(), null, null, 0);
+        return new Seed(responsibility.getResponsibilityId(), user.getUserId(), principal);
+    }
+}
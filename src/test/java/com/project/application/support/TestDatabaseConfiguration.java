@@ -0,0 +1,23 @@
+package com.project.application.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Throwaway MySQL for database-backed tests, so they do not need the development database.
+ * The datasource points at the container; ddl-auto creates the schema. Test classes that
+ * import this also carry @Testcontainers(disabledWithoutDocker = true), so a build without
+ * Docker skips them instead of failing.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestDatabaseConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}